@@ -0,0 +1,133 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.QuarkusExtensionTest;
+
+/**
+ * Compares the striped connection cache with the default thread local cache, which does not cache anything on the
+ * threads it does not control, such as virtual threads.
+ */
+public class StripedConnectionCacheTestCase {
+
+    private static final Logger LOG = Logger.getLogger(StripedConnectionCacheTestCase.class);
+
+    private static final int TASKS = 10_000;
+    private static final int MAX_SIZE = 10;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest().withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.metrics.enabled", "true")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", String.valueOf(MAX_SIZE))
+            .overrideConfigKey("quarkus.datasource.striped.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.striped.username", "username-striped")
+            .overrideConfigKey("quarkus.datasource.striped.jdbc.url", "jdbc:h2:tcp://localhost/mem:striped")
+            .overrideConfigKey("quarkus.datasource.striped.jdbc.metrics.enabled", "true")
+            .overrideConfigKey("quarkus.datasource.striped.jdbc.max-size", String.valueOf(MAX_SIZE))
+            .overrideConfigKey("quarkus.datasource.striped.jdbc.connection-cache", "striped");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    @DataSource("striped")
+    AgroalDataSource stripedDS;
+
+    @Test
+    public void testLastReleasedConnectionReacquiredOnVirtualThread() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // the default cache does not cache on virtual threads: the first idle connection of the pool is returned
+            Assertions.assertEquals(List.of(false, true), executor.submit(reacquire(defaultDS)).get());
+            // the striped cache returns the connection the thread released last
+            Assertions.assertEquals(List.of(true, false), executor.submit(reacquire(stripedDS)).get());
+        }
+    }
+
+    @Test
+    public void testPlatformThreads() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2 * MAX_SIZE)) {
+            run("platform", "default", defaultDS, executor);
+            run("platform", "striped", stripedDS, executor);
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            run("virtual", "default", defaultDS, executor);
+            run("virtual", "striped", stripedDS, executor);
+        }
+    }
+
+    /**
+     * Acquires two connections, releases the first one and then the second one, and acquires a connection again.
+     *
+     * @return whether the connection acquired again is the second one, and whether it is the first one
+     */
+    private static Callable<List<Boolean>> reacquire(AgroalDataSource dataSource) {
+        return () -> {
+            Connection first = dataSource.getConnection();
+            Connection second = dataSource.getConnection();
+            String firstId = connectionId(first);
+            String secondId = connectionId(second);
+            Assertions.assertNotEquals(firstId, secondId);
+            first.close();
+            second.close();
+
+            try (Connection connection = dataSource.getConnection()) {
+                String id = connectionId(connection);
+                return List.of(id.equals(secondId), id.equals(firstId));
+            }
+        };
+    }
+
+    private void run(String threads, String cache, AgroalDataSource dataSource, ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            futures.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SELECT 1");
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        LOG.infof("%d acquisitions on %s threads with the %s cache: %d ops/s", TASKS, threads, cache,
+                TASKS * 1_000_000_000L / elapsed);
+
+        Assertions.assertEquals(0L, dataSource.getMetrics().activeCount());
+        Assertions.assertTrue(dataSource.getMetrics().maxUsedCount() <= MAX_SIZE);
+    }
+
+    private static String connectionId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT SESSION_ID()")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -177,6 +177,18 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("lenient")
     AgroalConnectionPoolConfiguration.MultipleAcquisitionAction multipleAcquisition();
 
+    /**
+     * How the pool caches the connection released by a thread, so that the next acquisition from this thread does not go
+     * through the shared pool.
+     * <p>
+     * {@code thread-local} (the default) caches a connection per thread, but only on the long-lived threads managed by
+     * Quarkus, such as the event loops and the worker threads.
+     * {@code striped} caches the connections in a fixed number of stripes shared by all the threads. It does not depend on
+     * the lifecycle of the threads, so it is recommended when the connections are mostly acquired from virtual threads.
+     */
+    @WithDefault("thread-local")
+    ConnectionCacheStrategy connectionCache();
+
     /**
      * Other unspecified properties to be passed to the JDBC driver when creating new connections.
      */
@@ -210,4 +222,9 @@ public interface DataSourceJdbcRuntimeConfig {
      * database request on the connection, making it the more portable option.
      */
     Optional<Duration> networkTimeout();
+
+    enum ConnectionCacheStrategy {
+        THREAD_LOCAL,
+        STRIPED
+    }
 }
@@ -210,14 +210,19 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
                     dataSourceJdbcRuntimeConfig.additionalJdbcProperties(), dataSourceJdbcRuntimeConfig.readTimeout().get());
         }
 
-        //we use a custom cache for two reasons:
-        //fast thread local cache should be faster
-        //and it prevents a thread local leak
-        try {
-            Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
-        } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+        if (dataSourceJdbcRuntimeConfig.connectionCache() == DataSourceJdbcRuntimeConfig.ConnectionCacheStrategy.STRIPED) {
+            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusStripedConnectionCache());
+        } else {
+            //we use a custom cache for two reasons:
+            //fast thread local cache should be faster
+            //and it prevents a thread local leak
+            try {
+                Class.forName("io.netty.util.concurrent.FastThreadLocal", true,
+                        Thread.currentThread().getContextClassLoader());
+                dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            } catch (ClassNotFoundException e) {
+                dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            }
         }
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
@@ -0,0 +1,60 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache that does not depend on the lifecycle of the threads, which makes it usable from virtual threads.
+ * <p>
+ * The thread local caches only work on the long-lived threads we control, so a virtual thread, which usually serves a
+ * single request and is then discarded, always goes to the shared pool. Instead, this cache keeps the last connection
+ * handed out in a fixed number of stripes: a thread always uses the same stripe, so the connections it releases are
+ * found again without scanning the pool, and the threads hashed to the same stripe just compete for it with a CAS.
+ * <p>
+ * As the stripes belong to the pool and not to the threads, {@link #reset()} actually releases the cached connections.
+ */
+class QuarkusStripedConnectionCache implements ConnectionCache {
+
+    private static final int STRIPES_PER_PROCESSOR = 4;
+
+    private final AtomicReferenceArray<Acquirable> stripes;
+    private final int mask;
+
+    QuarkusStripedConnectionCache() {
+        this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR);
+    }
+
+    QuarkusStripedConnectionCache(int minStripes) {
+        int size = Integer.highestOneBit(Math.max(1, minStripes - 1) << 1);
+        this.stripes = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Acquirable get() {
+        Acquirable acquirable = stripes.get(stripe());
+        // acquire() fails if the connection is in use, or if it is not part of the pool anymore
+        return acquirable != null && acquirable.acquire() ? acquirable : null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        stripes.lazySet(stripe(), acquirable);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, null);
+        }
+    }
+
+    private int stripe() {
+        // the ids of the virtual threads are sequential, spread them over the stripes
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
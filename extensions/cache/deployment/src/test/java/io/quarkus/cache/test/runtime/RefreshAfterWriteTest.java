@@ -0,0 +1,143 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} configuration: the stale value is returned while a single refresh computes the new
+ * one in the background, with an active request context.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String ASYNC_CACHE_NAME = "async-refresh-cache";
+    private static final String DEPENDENT_CACHE_NAME = "dependent-refresh-cache";
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofSeconds(1);
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, DependentCachedService.class,
+                    RequestScopedSuffix.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + ASYNC_CACHE_NAME + "\".refresh-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + DEPENDENT_CACHE_NAME + "\".refresh-after-write", "1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    DependentCachedService dependentCachedService;
+
+    @Test
+    public void testRefresh() {
+        CountDownLatch refreshLatch = new CountDownLatch(1);
+        cachedService.refreshLatch = refreshLatch;
+
+        assertEquals("foo1!", cachedService.load("foo"));
+        awaitStale();
+
+        // This read triggers the refresh.
+        assertEquals("foo1!", cachedService.load("foo"));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertEquals(2, cachedService.invocations.get()));
+
+        // The refresh is still in progress, the stale value is returned and no other refresh is started.
+        for (int i = 0; i < 10; i++) {
+            assertEquals("foo1!", cachedService.load("foo"));
+        }
+        assertEquals(2, cachedService.invocations.get());
+
+        refreshLatch.countDown();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertEquals("foo2!", cachedService.load("foo")));
+    }
+
+    @Test
+    public void testAsyncRefresh() {
+        assertEquals("bar1!", cachedService.loadAsync("bar").await().indefinitely());
+        awaitStale();
+
+        // This read triggers the refresh, the stale value is returned.
+        assertEquals("bar1!", cachedService.loadAsync("bar").await().indefinitely());
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals("bar2!", cachedService.loadAsync("bar").await().indefinitely()));
+        assertEquals(2, cachedService.asyncInvocations.get());
+    }
+
+    @Test
+    public void testDependentBeanNotRefreshed() {
+        assertEquals("baz1", dependentCachedService.load("baz"));
+        awaitStale();
+
+        // The bean instance which computed the value may be destroyed, the stale value is returned until it expires.
+        assertEquals("baz1", dependentCachedService.load("baz"));
+        await().pollDelay(REFRESH_AFTER_WRITE).atMost(REFRESH_AFTER_WRITE.multipliedBy(2))
+                .untilAsserted(() -> assertEquals("baz1", dependentCachedService.load("baz")));
+        assertEquals(1, DependentCachedService.INVOCATIONS.get());
+    }
+
+    private static void awaitStale() {
+        await().pollDelay(REFRESH_AFTER_WRITE.plusMillis(500)).until(() -> true);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger asyncInvocations = new AtomicInteger();
+
+        volatile CountDownLatch refreshLatch = new CountDownLatch(0);
+
+        @Inject
+        RequestScopedSuffix suffix;
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String load(String key) throws InterruptedException {
+            int invocation = invocations.incrementAndGet();
+            if (invocation > 1) {
+                refreshLatch.await(10, TimeUnit.SECONDS);
+            }
+            // the refresh fails if the request context is not active
+            return key + invocation + suffix.get();
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME)
+        public Uni<String> loadAsync(String key) {
+            return Uni.createFrom().item(key + asyncInvocations.incrementAndGet() + suffix.get());
+        }
+    }
+
+    @Dependent
+    static class DependentCachedService {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @CacheResult(cacheName = DEPENDENT_CACHE_NAME)
+        public String load(String key) {
+            return key + INVOCATIONS.incrementAndGet();
+        }
+    }
+
+    @RequestScoped
+    static class RequestScopedSuffix {
+
+        String get() {
+            return "!";
+        }
+    }
+}
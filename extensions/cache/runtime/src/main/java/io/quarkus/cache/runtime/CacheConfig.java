@@ -75,6 +75,19 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be automatically refreshed once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The refresh is triggered by the first read of the entry
+             * after that duration and is performed asynchronously by invoking the value loader again, e.g. the method
+             * annotated with {@code @CacheResult}. The current value keeps being returned until the refresh completes and
+             * concurrent reads never trigger more than one refresh of the same entry. If the refresh fails, the current value
+             * is kept.
+             * <p>
+             * This value should be shorter than {@code expire-after-write} so that frequently read entries are refreshed
+             * before they expire.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -193,7 +193,7 @@ protected static ReturnType determineReturnType(Class<?> returnType) {
         return ReturnType.NonAsync;
     }
 
-    protected Uni<?> asyncInvocationResultToUni(Object invocationResult, ReturnType returnType) {
+    protected static Uni<?> asyncInvocationResultToUni(Object invocationResult, ReturnType returnType) {
         if (returnType == ReturnType.Uni) {
             return (Uni<?>) invocationResult;
         } else if (returnType == ReturnType.CompletionStage) {
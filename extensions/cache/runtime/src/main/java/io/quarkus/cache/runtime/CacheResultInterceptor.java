@@ -5,6 +5,11 @@
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Intercepted;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
@@ -25,6 +30,10 @@ public class CacheResultInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    @Inject
+    @Intercepted
+    Bean<?> interceptedBean;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
         /*
@@ -53,19 +62,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.getAsync(key, new Function<Object, Uni<Object>>() {
-                    @SuppressWarnings("unchecked")
-                    @Override
-                    public Uni<Object> apply(Object key) {
-                        try {
-                            return (Uni<Object>) asyncInvocationResultToUni(invocationContext.proceed(), returnType);
-                        } catch (CacheException e) {
-                            throw e;
-                        } catch (Exception e) {
-                            throw new CacheException(e);
-                        }
-                    }
-                });
+                Uni<Object> cacheValue = cache.getAsync(key, isTargetRefreshable()
+                        ? new AsyncInvocationLoader(invocationContext, returnType)
+                        : new NonRefreshableAsyncInvocationLoader(invocationContext, returnType));
 
                 if (binding.lockTimeout() <= 0) {
                     return createAsyncResult(cacheValue, returnType);
@@ -86,20 +85,9 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
-                    @Override
-                    public Object apply(Object k) {
-                        try {
-                            LOGGER.debugf("Adding entry with key [%s] into cache [%s]",
-                                    key, binding.cacheName());
-                            return invocationContext.proceed();
-                        } catch (CacheException e) {
-                            throw e;
-                        } catch (Throwable e) {
-                            throw new CacheException(e);
-                        }
-                    }
-                });
+                Uni<Object> cacheValue = cache.get(key, isTargetRefreshable()
+                        ? new InvocationLoader(invocationContext, binding.cacheName())
+                        : new NonRefreshableInvocationLoader(invocationContext, binding.cacheName()));
                 Object value;
                 if (binding.lockTimeout() <= 0) {
                     value = cacheValue.await().indefinitely();
@@ -128,4 +116,84 @@ public Object apply(Object k) {
         }
     }
 
+    /**
+     * A refresh proceeds with the invocation context long after the invocation, so it is only allowed if the intercepted
+     * instance lives as long as the application. The instances of the other beans, such as the request scoped and the
+     * dependent beans, may be destroyed when the value is refreshed.
+     */
+    private boolean isTargetRefreshable() {
+        if (interceptedBean == null) {
+            return false;
+        }
+        Class<?> scope = interceptedBean.getScope();
+        return scope == ApplicationScoped.class || scope == Singleton.class;
+    }
+
+    /*
+     * The loaders below are kept with the cache values of the caches configured with a refresh-after-write duration, so
+     * that the value can be computed again. They only hold what the computation needs: proceeding with the invocation
+     * context runs the remaining interceptors and the intercepted method with the original parameters.
+     */
+
+    private static class InvocationLoader implements Function<Object, Object> {
+
+        private final InvocationContext invocationContext;
+        private final String cacheName;
+
+        InvocationLoader(InvocationContext invocationContext, String cacheName) {
+            this.invocationContext = invocationContext;
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public Object apply(Object key) {
+            try {
+                LOGGER.debugf("Adding entry with key [%s] into cache [%s]", key, cacheName);
+                return invocationContext.proceed();
+            } catch (CacheException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CacheException(e);
+            }
+        }
+    }
+
+    private static class AsyncInvocationLoader implements Function<Object, Uni<Object>> {
+
+        private final InvocationContext invocationContext;
+        private final ReturnType returnType;
+
+        AsyncInvocationLoader(InvocationContext invocationContext, ReturnType returnType) {
+            this.invocationContext = invocationContext;
+            this.returnType = returnType;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Uni<Object> apply(Object key) {
+            try {
+                return (Uni<Object>) asyncInvocationResultToUni(invocationContext.proceed(), returnType);
+            } catch (CacheException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CacheException(e);
+            }
+        }
+    }
+
+    private static class NonRefreshableInvocationLoader extends InvocationLoader implements NonRefreshableValueLoader {
+
+        NonRefreshableInvocationLoader(InvocationContext invocationContext, String cacheName) {
+            super(invocationContext, cacheName);
+        }
+    }
+
+    private static class NonRefreshableAsyncInvocationLoader extends AsyncInvocationLoader
+            implements NonRefreshableValueLoader {
+
+        NonRefreshableAsyncInvocationLoader(InvocationContext invocationContext, ReturnType returnType) {
+            super(invocationContext, returnType);
+        }
+    }
+
 }
@@ -0,0 +1,8 @@
+package io.quarkus.cache.runtime;
+
+/**
+ * Implemented by the value loaders that must not be invoked again to refresh the value they computed, such as the
+ * loaders invoking a bean instance that may be destroyed once the value is computed.
+ */
+public interface NonRefreshableValueLoader {
+}
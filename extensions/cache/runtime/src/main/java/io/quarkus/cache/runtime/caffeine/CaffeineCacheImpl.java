@@ -4,6 +4,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -14,17 +15,24 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NonRefreshableValueLoader;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -44,6 +52,7 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final boolean refreshable;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -60,6 +69,9 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -74,7 +86,13 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        this.refreshable = cacheInfo.refreshAfterWrite != null;
+        if (refreshable) {
+            LOGGER.tracef("Refreshing entries of cache [%s] after [%s]", cacheInfo.name, cacheInfo.refreshAfterWrite);
+            cache = builder.buildAsync(new RefreshableValueReloader(cacheInfo.name));
+        } else {
+            cache = builder.buildAsync();
+        }
     }
 
     @Override
@@ -116,7 +134,9 @@ public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                             public CompletableFuture<Object> apply(Object key) {
                                 recorder.onValueAbsent();
                                 return valueLoader.apply((K) key)
-                                        .map(TO_CACHE_VALUE)
+                                        .map(isRefreshable(valueLoader)
+                                                ? toRefreshableValue(asyncReloader(valueLoader, context))
+                                                : TO_CACHE_VALUE)
                                         .subscribeAsCompletionStage(mutinyContext);
                             }
                         });
@@ -208,13 +228,23 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
-        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        /*
+         * The value is looked up first so that a cache hit does not allocate a new future. This lookup is also what triggers
+         * the refresh of the entry if the cache is configured with a refresh-after-write duration.
+         */
+        CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+        CompletableFuture<Object> newCacheValue = null;
+        if (existingCacheValue == null) {
+            newCacheValue = new CompletableFuture<>();
+            existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        }
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
             try {
-                Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                Object value = NullValueConverter.toCacheValue(valueLoader.apply(key));
+                newCacheValue.complete(isRefreshable(valueLoader)
+                        ? new CaffeineRefreshableValue(value, reloader(valueLoader, Vertx.currentContext()))
+                        : value);
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -227,6 +257,10 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    private boolean isRefreshable(Function<?, ?> valueLoader) {
+        return refreshable && !(valueLoader instanceof NonRefreshableValueLoader);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -240,12 +274,132 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCaffeineValue(value);
                 }
             }
         });
     }
 
+    /**
+     * Returns a function that computes a new cache value on a worker thread, because the value loader may block.
+     * <p>
+     * The computation runs with an active request context and, if the value was first computed on a Vert.x context, on a
+     * new duplicate of that context, as the original computation did.
+     */
+    private static <K, V> Function<Object, CompletableFuture<Object>> reloader(Function<K, V> valueLoader, Context context) {
+        // only the root context is kept, the duplicated context of the original call is not reused
+        ContextInternal rootContext = context != null ? ((ContextInternal) context).unwrap() : null;
+        return new Function<Object, CompletableFuture<Object>>() {
+            @Override
+            public CompletableFuture<Object> apply(Object key) {
+                Supplier<Object> reload = new Supplier<Object>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Object get() {
+                        ManagedContext requestContext = inactiveRequestContext();
+                        if (requestContext == null) {
+                            return NullValueConverter.toCacheValue(valueLoader.apply((K) key));
+                        }
+                        requestContext.activate();
+                        try {
+                            return NullValueConverter.toCacheValue(valueLoader.apply((K) key));
+                        } finally {
+                            requestContext.terminate();
+                        }
+                    }
+                };
+                if (rootContext == null) {
+                    return CompletableFuture.supplyAsync(reload, Infrastructure.getDefaultWorkerPool());
+                }
+                return rootContext.duplicate().executeBlocking(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        return reload.get();
+                    }
+                }, false).toCompletionStage().toCompletableFuture();
+            }
+        };
+    }
+
+    /**
+     * Returns a function that subscribes to a new cache value, with an active request context and, if the value was first
+     * computed on a Vert.x context, on a new duplicate of that context, as the original computation did.
+     */
+    private static <K, V> Function<Object, CompletableFuture<Object>> asyncReloader(Function<K, Uni<V>> valueLoader,
+            Context context) {
+        ContextInternal rootContext = context != null ? ((ContextInternal) context).unwrap() : null;
+        return new Function<Object, CompletableFuture<Object>>() {
+            @Override
+            public CompletableFuture<Object> apply(Object key) {
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                Runnable reload = new Runnable() {
+                    @Override
+                    public void run() {
+                        Uni<Object> value = Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Uni<? extends V> get() {
+                                return valueLoader.apply((K) key);
+                            }
+                        }).map(TO_CACHE_VALUE);
+                        ManagedContext requestContext = inactiveRequestContext();
+                        if (requestContext != null) {
+                            requestContext.activate();
+                            ContextState state = requestContext.getState();
+                            value = value.eventually(new Runnable() {
+                                @Override
+                                public void run() {
+                                    requestContext.destroy(state);
+                                    requestContext.deactivate();
+                                }
+                            });
+                        }
+                        value.subscribe().with(result::complete, result::completeExceptionally);
+                    }
+                };
+                if (rootContext == null) {
+                    reload.run();
+                } else {
+                    rootContext.duplicate().runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            reload.run();
+                        }
+                    });
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * @return the request context if it is not active on the current thread, {@code null} otherwise
+     */
+    private static ManagedContext inactiveRequestContext() {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return null;
+        }
+        ManagedContext requestContext = container.requestContext();
+        return requestContext.isActive() ? null : requestContext;
+    }
+
+    private static Function<Object, Object> toRefreshableValue(Function<Object, CompletableFuture<Object>> reloader) {
+        return new Function<Object, Object>() {
+            @Override
+            public Object apply(Object value) {
+                return new CaffeineRefreshableValue(NullValueConverter.toCacheValue(value), reloader);
+            }
+        };
+    }
+
+    private static Object fromCaffeineValue(Object value) {
+        if (value instanceof CaffeineRefreshableValue) {
+            value = ((CaffeineRefreshableValue) value).getValue();
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -400,7 +554,7 @@ public <K> void doRecord(K key) {
 
         @Override
         public Object apply(Object value) {
-            return NullValueConverter.fromCacheValue(value);
+            return fromCaffeineValue(value);
         }
     };
 
@@ -412,4 +566,41 @@ public Object apply(Object value) {
         }
     };
 
+    /**
+     * Reloads the entries of a cache configured with a refresh-after-write duration. Caffeine keeps serving the current value
+     * while the new one is computed and never runs more than one reload per key at a time.
+     */
+    private static class RefreshableValueReloader implements AsyncCacheLoader<Object, Object> {
+
+        private final String cacheName;
+
+        RefreshableValueReloader(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+            // The values are always loaded with the function passed to get() or getAsync(), there is nothing to load a
+            // missing entry with. Failing the future leaves the cache unchanged.
+            return CompletableFuture.failedFuture(new CacheException("Cache [" + cacheName + "] cannot load the missing key ["
+                    + key + "]: its values are computed by the value loader passed to get() or getAsync()"));
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            if (oldValue instanceof CaffeineRefreshableValue) {
+                Function<Object, CompletableFuture<Object>> loader = ((CaffeineRefreshableValue) oldValue).getLoader();
+                return loader.apply(key).thenApply(new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object value) {
+                        return new CaffeineRefreshableValue(value, loader);
+                    }
+                });
+            } else {
+                // The value was stored with put() and there is no function to compute a new one.
+                return CompletableFuture.completedFuture(oldValue);
+            }
+        }
+    }
+
 }
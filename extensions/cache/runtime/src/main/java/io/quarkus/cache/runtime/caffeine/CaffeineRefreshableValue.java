@@ -0,0 +1,33 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * This class is used to keep the function that loaded a cache value next to that value when the cache is configured with a
+ * {@code refresh-after-write} duration. Caffeine only provides the key and the current value when an entry is reloaded, so
+ * the loading function must be retrievable from the current value.
+ */
+public class CaffeineRefreshableValue {
+
+    private final Object value;
+    private final Function<Object, CompletableFuture<Object>> loader;
+
+    /**
+     * @param value the cache value, already converted with {@link io.quarkus.cache.runtime.NullValueConverter}
+     * @param loader the function used to compute a new cache value, already converted with
+     *        {@link io.quarkus.cache.runtime.NullValueConverter}
+     */
+    public CaffeineRefreshableValue(Object value, Function<Object, CompletableFuture<Object>> loader) {
+        this.value = value;
+        this.loader = loader;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Function<Object, CompletableFuture<Object>> getLoader() {
+        return loader;
+    }
+}
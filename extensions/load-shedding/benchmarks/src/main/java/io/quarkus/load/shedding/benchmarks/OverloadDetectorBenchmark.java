@@ -0,0 +1,125 @@
+package io.quarkus.load.shedding.benchmarks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+
+/**
+ * Compares the update strategies of the {@link OverloadDetector} when all the threads finish requests concurrently,
+ * as the event loops do under a high request rate.
+ * <p>
+ * By default, all the available processors are used. Run with
+ * {@code java -jar target/benchmark.jar OverloadDetectorBenchmark -t 1} to see the cost of an uncontended request,
+ * and with a larger number of threads to see how the lock of the {@code synchronized} strategy is contended.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "SYNCHRONIZED", "STRIPED" })
+    LoadSheddingRuntimeConfig.UpdateStrategy updateStrategy;
+
+    OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        detector = new OverloadDetector(config(updateStrategy));
+    }
+
+    /**
+     * Handles a request of 100 to 1000 microseconds, or rejects it if the limit is reached. As in the HTTP route,
+     * the clock is read when the request finishes.
+     */
+    @Benchmark
+    public boolean request() {
+        if (detector.isOverloaded()) {
+            detector.requestRejected();
+            return false;
+        }
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(100, 1_000), System.nanoTime());
+        return true;
+    }
+
+    private static LoadSheddingRuntimeConfig config(LoadSheddingRuntimeConfig.UpdateStrategy updateStrategy) {
+        // the defaults of the configuration
+        return new LoadSheddingRuntimeConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public int maxLimit() {
+                return 1000;
+            }
+
+            @Override
+            public int alphaFactor() {
+                return 3;
+            }
+
+            @Override
+            public int betaFactor() {
+                return 6;
+            }
+
+            @Override
+            public double probeFactor() {
+                return 30.0;
+            }
+
+            @Override
+            public int initialLimit() {
+                return 100;
+            }
+
+            @Override
+            public UpdateStrategy updateStrategy() {
+                return updateStrategy;
+            }
+
+            @Override
+            public Duration updateInterval() {
+                return Duration.ofMillis(10);
+            }
+
+            @Override
+            public PriorityLoadShedding priority() {
+                return new PriorityLoadShedding() {
+                    @Override
+                    public boolean enabled() {
+                        return false;
+                    }
+                };
+            }
+
+            @Override
+            public Map<String, RouteGroup> groups() {
+                return Map.of();
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class RouteGroupLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(ReportResource.class, CheckoutResource.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "1000")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1000")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.groups.reports.paths", "/reports/*")
+            .overrideConfigKey("quarkus.load-shedding.groups.reports.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.groups.reports.max-limit", "10");
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger reportErrors = new AtomicInteger();
+        AtomicInteger checkoutErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(2 * NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            startClient(begin, end, "/reports", reportErrors);
+            startClient(begin, end, "/checkout", checkoutErrors);
+        }
+
+        begin.countDown();
+        end.await();
+
+        // at least 1/2 of all report requests failed, while checkout requests were not affected
+        assertThat(reportErrors).hasValueGreaterThanOrEqualTo(100);
+        assertThat(checkoutErrors).hasValue(0);
+    }
+
+    private static void startClient(CountDownLatch begin, CountDownLatch end, String path, AtomicInteger numErrors) {
+        new Thread(() -> {
+            try {
+                begin.await();
+                for (int j = 0; j < NUM_REQUESTS; j++) {
+                    int statusCode = when().get(path).then().extract().statusCode();
+                    if (statusCode == 503) {
+                        numErrors.incrementAndGet();
+                    }
+                }
+                end.countDown();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }).start();
+    }
+
+    @Path("/reports")
+    public static class ReportResource {
+        @GET
+        public String report() throws InterruptedException {
+            Thread.sleep(100);
+            return "Report";
+        }
+    }
+
+    @Path("/checkout")
+    public static class CheckoutResource {
+        @GET
+        public String checkout() throws InterruptedException {
+            Thread.sleep(100);
+            return "Checkout";
+        }
+    }
+}
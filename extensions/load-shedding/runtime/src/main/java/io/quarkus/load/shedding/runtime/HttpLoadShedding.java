@@ -13,15 +13,24 @@
 
 @Singleton
 public class HttpLoadShedding {
-    public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+    public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector globalDetector,
+            RouteGroupOverloadDetectors routeGroups, PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
+            OverloadDetector detector = globalDetector;
+            if (!routeGroups.isEmpty()) {
+                OverloadDetector groupDetector = routeGroups.forPath(ctx.normalizedPath());
+                if (groupDetector != null) {
+                    detector = groupDetector;
+                }
+            }
+
             if (detector.isOverloaded() && priority.shedLoad(ctx)) {
+                detector.requestRejected();
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -33,13 +42,14 @@ public void handle(Void ignored) {
                 });
                 response.end();
             } else {
-                detector.requestBegin();
+                OverloadDetector requestDetector = detector;
+                requestDetector.requestBegin();
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        requestDetector.requestEnd((end - start) / 1_000, end);
                     }
                 });
                 ctx.next();
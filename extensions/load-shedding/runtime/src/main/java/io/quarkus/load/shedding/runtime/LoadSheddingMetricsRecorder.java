@@ -0,0 +1,49 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingMetricsRecorder {
+    private static final String GROUP_TAG = "group";
+    // the tag value of the metrics of requests that do not belong to any route group
+    private static final String GLOBAL_GROUP = "<global>";
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                ArcContainer container = Arc.container();
+                registerMetrics(metricsFactory, GLOBAL_GROUP, container.instance(OverloadDetector.class).get());
+                container.instance(RouteGroupOverloadDetectors.class).get().detectors().forEach(
+                        new BiConsumer<String, OverloadDetector>() {
+                            @Override
+                            public void accept(String group, OverloadDetector detector) {
+                                registerMetrics(metricsFactory, group, detector);
+                            }
+                        });
+            }
+        };
+    }
+
+    private static void registerMetrics(MetricsFactory metricsFactory, String group, OverloadDetector detector) {
+        metricsFactory.builder("load.shedding.limit")
+                .description("Current limit of concurrent requests, as computed by the overload detector.")
+                .tag(GROUP_TAG, group)
+                .buildGauge(detector::currentLimit);
+        metricsFactory.builder("load.shedding.in.flight")
+                .description("Number of requests currently being processed.")
+                .tag(GROUP_TAG, group)
+                .buildGauge(detector::currentRequests);
+        metricsFactory.builder("load.shedding.rejected")
+                .description("Number of requests rejected because of overload.")
+                .tag(GROUP_TAG, group)
+                .buildCounter(detector::rejectedRequests);
+    }
+}
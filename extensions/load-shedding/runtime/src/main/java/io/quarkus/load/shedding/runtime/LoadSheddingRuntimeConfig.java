@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -46,11 +52,66 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * How the overload detector updates the limit of concurrent requests when requests finish.
+     */
+    @WithDefault("synchronized")
+    UpdateStrategy updateStrategy();
+
+    /**
+     * How often the limit of concurrent requests is recomputed when the {@code striped} update strategy is used.
+     * Ignored by the {@code synchronized} update strategy.
+     */
+    @WithDefault("10ms")
+    Duration updateInterval();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Route groups. Each route group has its own overload detector with an independent limit of concurrent
+     * requests, so that slow requests in one group cannot exhaust the capacity of other groups.
+     * Requests that do not belong to any group are subject to the global limit.
+     */
+    @ConfigDocMapKey("group-name")
+    Map<String, RouteGroup> groups();
+
+    enum UpdateStrategy {
+        /**
+         * Each finished request updates the limit while holding a lock.
+         */
+        SYNCHRONIZED,
+        /**
+         * Finished requests are recorded without locking into per-thread stripes, which are periodically
+         * aggregated into a single sample that updates the limit. Suitable for high request rates on many
+         * event loops, where the lock of the {@code synchronized} strategy becomes contended.
+         */
+        STRIPED,
+    }
+
+    @ConfigGroup
+    interface RouteGroup {
+        /**
+         * The paths of requests that belong to this group. A path ending with {@code /*} matches all sub-paths,
+         * other paths must match exactly. If multiple groups match a request path, the most specific path wins.
+         */
+        List<String> paths();
+
+        /**
+         * The maximum number of concurrent requests allowed in this group.
+         * If not set, the global {@code quarkus.load-shedding.max-limit} is used.
+         */
+        OptionalInt maxLimit();
+
+        /**
+         * The initial limit of concurrent requests allowed in this group.
+         * If not set, the global {@code quarkus.load-shedding.initial-limit} is used.
+         */
+        OptionalInt initialLimit();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -2,6 +2,7 @@
 
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -27,19 +28,30 @@ public class OverloadDetector {
     private final double probeFactor;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
     private volatile long currentLimit;
 
+    // only used by the striped update strategy, `null` otherwise
+    private final StripedSampleWindow sampleWindow;
+
     private long lowestRequestTime = Long.MAX_VALUE;
     private double probeCount = 0.0;
     private double probeJitter;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
+        this(config, config.initialLimit(), config.maxLimit());
+    }
+
+    OverloadDetector(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        this.maxLimit = maxLimit;
         alphaFactor = config.alphaFactor();
         betaFactor = config.betaFactor();
         probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
+        currentLimit = initialLimit;
+        sampleWindow = config.updateStrategy() == LoadSheddingRuntimeConfig.UpdateStrategy.STRIPED
+                ? new StripedSampleWindow(config.updateInterval().toNanos())
+                : null;
         resetProbeJitter();
     }
 
@@ -52,13 +64,52 @@ public void requestBegin() {
     }
 
     public void requestEnd(long timeInMicros) {
+        requestEnd(timeInMicros, sampleWindow != null ? System.nanoTime() : 0L);
+    }
+
+    /**
+     * Same as {@link #requestEnd(long)}, for callers that have already read {@link System#nanoTime()} when the request
+     * finished, so that the {@code striped} update strategy does not read the clock again.
+     *
+     * @param timeInMicros the request time in microseconds
+     * @param endNanoTime the value of {@link System#nanoTime()} when the request finished
+     */
+    public void requestEnd(long timeInMicros, long endNanoTime) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        if (sampleWindow == null) {
+            update(timeInMicros, current, 1);
+        } else if (sampleWindow.record(timeInMicros, current, endNanoTime)) {
+            StripedSampleWindow.Sample sample = sampleWindow.close();
+            if (sample != null) {
+                // only the thread that closed the window gets here, so the lock is not contended
+                update(sample.requestTime(), sample.currentRequests(), sample.count());
+            }
+        }
+    }
+
+    public void requestRejected() {
+        rejectedRequests.increment();
+    }
+
+    public long currentLimit() {
+        return currentLimit;
+    }
+
+    public int currentRequests() {
+        return currentRequests.get();
+    }
+
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
+    /**
+     * @param samples the number of finished requests this update stands for, so that the probe happens after the same
+     *        number of requests with both update strategies
+     */
+    private synchronized void update(long requestTime, int currentRequests, long samples) {
+        probeCount += samples;
         if (probeFactor * probeJitter * currentLimit <= probeCount) {
             resetProbeJitter();
             probeCount = 0.0;
@@ -0,0 +1,85 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.vertx.http.runtime.security.ImmutablePathMatcher;
+
+/**
+ * Holds an {@link OverloadDetector} for each configured route group and resolves the group of a request path.
+ */
+@Singleton
+public class RouteGroupOverloadDetectors {
+    private final Map<String, OverloadDetector> detectors;
+
+    // `null` if there are no route groups
+    private final ImmutablePathMatcher<NamedDetector> pathMatcher;
+
+    @Inject
+    RouteGroupOverloadDetectors(LoadSheddingRuntimeConfig config) {
+        if (config.groups().isEmpty()) {
+            detectors = Collections.emptyMap();
+            pathMatcher = null;
+            return;
+        }
+
+        Map<String, OverloadDetector> detectors = new HashMap<>();
+        ImmutablePathMatcher.ImmutablePathMatcherBuilder<NamedDetector> builder = ImmutablePathMatcher.builder();
+        builder.handlerAccumulator(new BiConsumer<NamedDetector, NamedDetector>() {
+            @Override
+            public void accept(NamedDetector existing, NamedDetector added) {
+                if (existing.detector != added.detector) {
+                    throw new ConfigurationException("Load shedding route groups '" + existing.name + "' and '"
+                            + added.name + "' declare the same path");
+                }
+            }
+        });
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.RouteGroup> entry : config.groups().entrySet()) {
+            LoadSheddingRuntimeConfig.RouteGroup group = entry.getValue();
+            OverloadDetector detector = new OverloadDetector(config,
+                    group.initialLimit().orElse(config.initialLimit()), group.maxLimit().orElse(config.maxLimit()));
+            detectors.put(entry.getKey(), detector);
+            NamedDetector namedDetector = new NamedDetector(entry.getKey(), detector);
+            for (String path : group.paths()) {
+                builder.addPath(path, namedDetector);
+            }
+        }
+        this.detectors = Collections.unmodifiableMap(detectors);
+        this.pathMatcher = builder.build();
+    }
+
+    /**
+     * @return whether no route group is configured
+     */
+    public boolean isEmpty() {
+        return pathMatcher == null;
+    }
+
+    /**
+     * @param path the normalized request path
+     * @return the overload detector of the route group the path belongs to, or {@code null} if it belongs to no group
+     */
+    public OverloadDetector forPath(String path) {
+        if (pathMatcher == null) {
+            return null;
+        }
+        NamedDetector match = pathMatcher.match(path).getValue();
+        return match != null ? match.detector : null;
+    }
+
+    /**
+     * @return the overload detectors of all route groups, keyed by the group name
+     */
+    public Map<String, OverloadDetector> detectors() {
+        return detectors;
+    }
+
+    private record NamedDetector(String name, OverloadDetector detector) {
+    }
+}
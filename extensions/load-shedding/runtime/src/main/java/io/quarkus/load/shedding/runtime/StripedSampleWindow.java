@@ -0,0 +1,106 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects request samples for the {@linkplain LoadSheddingRuntimeConfig.UpdateStrategy#STRIPED striped}
+ * update strategy of the {@link OverloadDetector}.
+ * <p>
+ * Samples are recorded without locking into one of several stripes, selected by the current thread, so that
+ * event loop threads do not contend with each other. When the update interval elapses, the thread that
+ * records the next sample closes the window: it aggregates all stripes into a single sample (average request
+ * time, maximum number of in-flight requests) which is then used to update the limit. This is the same
+ * approach as the {@code WindowedLimit} of Netflix Concurrency Limits. A window is also closed early when one
+ * of its stripes holds so many samples that their count or total time could overflow.
+ */
+final class StripedSampleWindow {
+    // the number of samples and their total time are packed into a single long, so that they are always read consistently
+    private static final int TIME_BITS = 44;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long ONE_SAMPLE = 1L << TIME_BITS;
+    // a stripe holding 2^19 samples or 2^43 microseconds closes the window early, before the packed values overflow:
+    // a sample is limited to 2^32 microseconds (about 71 minutes), so there is room for thousands of samples recorded
+    // concurrently until the stripe is drained
+    private static final long MAX_REQUEST_TIME = 1L << 32;
+    private static final long ALMOST_FULL = Long.MIN_VALUE | (1L << (TIME_BITS - 1));
+
+    // each stripe takes 128 bytes of the array, so that stripes do not share a cache line
+    private static final int STRIPE_SIZE = 16;
+    private static final int SAMPLES_OFFSET = 0;
+    private static final int MAX_REQUESTS_OFFSET = 1;
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long intervalNanos;
+    private final AtomicLong windowEnd;
+
+    StripedSampleWindow(long intervalNanos) {
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        // the first stripe of the array is not used, it only pads the next one
+        this.stripes = new AtomicLongArray((count + 1) * STRIPE_SIZE);
+        this.mask = count - 1;
+        this.intervalNanos = intervalNanos;
+        this.windowEnd = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    /**
+     * Records a sample.
+     *
+     * @param requestTime the request time in microseconds
+     * @param currentRequests the number of in-flight requests when the request finished
+     * @param now the value of {@link System#nanoTime()} when the request finished
+     * @return whether the window should be closed by the caller, which is then expected to call {@link #close()}
+     */
+    boolean record(long requestTime, int currentRequests, long now) {
+        int stripe = stripeOffset();
+        long packed = stripes.addAndGet(stripe + SAMPLES_OFFSET,
+                ONE_SAMPLE + Math.max(0, Math.min(requestTime, MAX_REQUEST_TIME)));
+        long max = stripes.get(stripe + MAX_REQUESTS_OFFSET);
+        while (currentRequests > max && !stripes.compareAndSet(stripe + MAX_REQUESTS_OFFSET, max, currentRequests)) {
+            max = stripes.get(stripe + MAX_REQUESTS_OFFSET);
+        }
+
+        long end = windowEnd.get();
+        // only one thread can win the race for closing the window
+        return (now - end >= 0 || (packed & ALMOST_FULL) != 0) && windowEnd.compareAndSet(end, now + intervalNanos);
+    }
+
+    /**
+     * Aggregates and resets all stripes. Samples recorded concurrently may end up in the next window.
+     *
+     * @return the aggregated sample, or {@code null} if no sample was recorded in this window
+     */
+    Sample close() {
+        long totalTime = 0;
+        long samples = 0;
+        long maxRequests = 0;
+        for (int stripe = STRIPE_SIZE; stripe < stripes.length(); stripe += STRIPE_SIZE) {
+            long packed = stripes.getAndSet(stripe + SAMPLES_OFFSET, 0);
+            if (packed == 0) {
+                continue;
+            }
+            samples += packed >>> TIME_BITS;
+            totalTime += packed & TIME_MASK;
+            maxRequests = Math.max(maxRequests, stripes.getAndSet(stripe + MAX_REQUESTS_OFFSET, 0));
+        }
+        if (samples == 0) {
+            return null;
+        }
+        return new Sample(totalTime / samples, (int) maxRequests, samples);
+    }
+
+    private int stripeOffset() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        // the first STRIPE_SIZE elements are only used as padding
+        return (((hash ^ (hash >>> 16)) & mask) + 1) * STRIPE_SIZE;
+    }
+
+    /**
+     * @param requestTime the average request time in microseconds
+     * @param currentRequests the maximum number of in-flight requests
+     * @param count the number of samples aggregated
+     */
+    record Sample(long requestTime, int currentRequests, long count) {
+    }
+}
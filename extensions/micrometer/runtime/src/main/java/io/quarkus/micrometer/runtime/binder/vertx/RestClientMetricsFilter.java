@@ -5,10 +5,12 @@
 import jakarta.ws.rs.client.ClientResponseContext;
 import jakarta.ws.rs.ext.Provider;
 
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientResponseFilter;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
@@ -36,6 +38,7 @@ public class RestClientMetricsFilter implements ResteasyReactiveClientRequestFil
     private final HttpBinderConfiguration httpMetricsConfig;
 
     private final Meter.MeterProvider<Timer> timer;
+    private final Meter.MeterProvider<Counter> coalesced;
 
     @Inject
     public RestClientMetricsFilter(final HttpBinderConfiguration httpMetricsConfig) {
@@ -43,7 +46,9 @@ public RestClientMetricsFilter(final HttpBinderConfiguration httpMetricsConfig)
 
         timer = Timer.builder(httpMetricsConfig.getHttpClientRequestsName())
                 .withRegistry(registry);
-
+        coalesced = Counter.builder(httpMetricsConfig.getHttpClientRequestsName() + ".coalesced")
+                .description("Number of requests which were not sent because an identical request was in flight")
+                .withRegistry(registry);
     }
 
     @Override
@@ -84,6 +89,14 @@ public void filter(ResteasyReactiveClientRequestContext requestContext, ClientRe
                                 HttpCommonTags.outcome(statusCode),
                                 HttpCommonTags.status(statusCode),
                                 clientName(requestContext))));
+                if (Boolean.TRUE.equals(requestContext.getProperty(QuarkusRestClientProperties.COALESCED))) {
+                    coalesced.withTags(Tags.of(
+                            address(requestContext),
+                            HttpCommonTags.method(requestContext.getMethod()),
+                            HttpCommonTags.uri(requestPath, requestContext.getUri().getPath(), statusCode,
+                                    httpMetricsConfig.isClientSuppress4xxErrors()),
+                            clientName(requestContext))).increment();
+                }
             }
         }
     }
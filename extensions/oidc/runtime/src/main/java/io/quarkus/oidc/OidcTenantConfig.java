@@ -2447,6 +2447,12 @@ public static Token fromAudience(String... audience) {
          */
         public boolean requireJwtIntrospectionOnly = false;
 
+        /**
+         * Maximum number of locally verified JWT bearer access tokens whose verification results are kept in memory.
+         * The cache is disabled by default.
+         */
+        public int verifiedJwtCacheSize = 0;
+
         /**
          * Allow the remote introspection of the opaque tokens.
          *
@@ -2621,6 +2627,14 @@ public void setRequireJwtIntrospectionOnly(boolean requireJwtIntrospectionOnly)
             this.requireJwtIntrospectionOnly = requireJwtIntrospectionOnly;
         }
 
+        public int getVerifiedJwtCacheSize() {
+            return verifiedJwtCacheSize;
+        }
+
+        public void setVerifiedJwtCacheSize(int verifiedJwtCacheSize) {
+            this.verifiedJwtCacheSize = verifiedJwtCacheSize;
+        }
+
         public Optional<SignatureAlgorithm> getSignatureAlgorithm() {
             return signatureAlgorithm;
         }
@@ -2675,6 +2689,7 @@ private void addConfigMappingValues(io.quarkus.oidc.runtime.OidcTenantConfig.Tok
             decryptAccessToken = mapping.decryptAccessToken();
             allowJwtIntrospection = mapping.allowJwtIntrospection();
             requireJwtIntrospectionOnly = mapping.requireJwtIntrospectionOnly();
+            verifiedJwtCacheSize = mapping.verifiedJwtCacheSize();
             allowOpaqueTokenIntrospection = mapping.allowOpaqueTokenIntrospection();
             customizerName = mapping.customizerName();
             verifyAccessTokenWithUserInfo = mapping.verifyAccessTokenWithUserInfo();
@@ -2787,6 +2802,11 @@ public boolean requireJwtIntrospectionOnly() {
             return requireJwtIntrospectionOnly;
         }
 
+        @Override
+        public int verifiedJwtCacheSize() {
+            return verifiedJwtCacheSize;
+        }
+
         @Override
         public boolean allowOpaqueTokenIntrospection() {
             return allowOpaqueTokenIntrospection;
@@ -113,6 +113,10 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public MemoryCache.Stats getCacheStats() {
+        return cache.getCacheStats();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
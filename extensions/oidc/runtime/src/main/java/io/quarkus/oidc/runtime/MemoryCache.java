@@ -1,22 +1,31 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A bounded in-memory cache.
+ * <p>
+ * When the maximum size is reached, the entries which are least likely to be used again are evicted, based on both
+ * the recency and the frequency of their use. Unlike clearing the whole cache, this keeps the most frequently used
+ * entries, for example, the introspection results of the tokens which are presented over and over again.
+ * Each entry expires once its time-to-live has elapsed.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
+    private final Cache<String, CacheEntry<T>> cache;
     private final Duration cacheTimeToLive;
     private final int cacheSize;
     private final Runnable startTimer;
@@ -25,6 +34,13 @@ public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
         this.cacheTimeToLive = cacheTimeToLive;
         this.cacheSize = cacheSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfter(new EntryExpiry<T>())
+                // the maintenance work is cheap and amortized, there is no need to submit it to the common pool
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
         if (vertx != null && cleanUpTimerInterval.isPresent()) {
             this.startTimer = () -> {
                 synchronized (MemoryCache.this) {
@@ -32,10 +48,8 @@ public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
                         timerId = vertx.setPeriodic(cleanUpTimerInterval.get().toMillis(), new Handler<Long>() {
                             @Override
                             public void handle(Long event) {
-                                if (!cacheMap.isEmpty()) {
-                                    // Remove all the entries which have expired
-                                    removeInvalidEntries();
-                                }
+                                // Remove all the entries which have expired
+                                cache.cleanUp();
                             }
                         });
                     }
@@ -47,12 +61,16 @@ public void handle(Long event) {
     }
 
     public void add(String key, T result) {
+        add(key, result, now() + cacheTimeToLive.toMillis());
+    }
+
+    /**
+     * @param expiresAt the time in milliseconds at which the entry expires, overrides the cache time-to-live
+     */
+    public void add(String key, T result, long expiresAt) {
         if (cacheSize > 0) {
             startTimerIfNotRunning();
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<>(result, now()));
+            cache.put(key, new CacheEntry<>(result, expiresAt));
         }
     }
 
@@ -63,118 +81,98 @@ private void startTimerIfNotRunning() {
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
+        CacheEntry<T> entry = cache.asMap().remove(key);
         return entry == null ? null : entry.result;
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
+        CacheEntry<T> entry = cache.getIfPresent(key);
         return entry == null ? null : entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        return cache.asMap().containsKey(key);
     }
 
     T getOrComputeDeferredValue(String key, Function<CacheEntryAction, T> itemFactory) {
         return new DeferredCacheValue(key).computeIfAbsent(itemFactory);
     }
 
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Map.Entry<String, CacheEntry<T>> next : cacheMap.entrySet()) {
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    removeCacheEntry(next.getKey(), next.getValue());
-                }
-            }
-        }
+    private static long now() {
+        return System.currentTimeMillis();
     }
 
-    private void removeCacheEntry(String key, CacheEntry<T> entry) {
-        if (cacheMap.remove(key, entry)) {
-            size.decrementAndGet();
-        }
+    public int getCacheSize() {
+        return (int) cache.estimatedSize();
     }
 
-    private void evictEldest() {
-        int overflow = cacheMap.size() - cacheSize;
-        if (overflow <= 0) {
-            return;
-        }
-        long[] times = new long[overflow];
-        var entries = new ArrayList<Map.Entry<String, CacheEntry<T>>>(overflow);
-        int found = 0;
-        for (var next : cacheMap.entrySet()) {
-            long createdTime = next.getValue().createdTime();
-            if (found < overflow) {
-                times[found] = createdTime;
-                entries.add(next);
-                found++;
-            } else {
-                int youngest = 0;
-                for (int i = 1; i < overflow; i++) {
-                    if (times[i] > times[youngest]) {
-                        youngest = i;
-                    }
-                }
-                if (createdTime < times[youngest]) {
-                    times[youngest] = createdTime;
-                    entries.set(youngest, next);
-                }
-            }
-        }
-        entries.forEach(e -> removeCacheEntry(e.getKey(), e.getValue()));
+    /**
+     * @return the hit, miss and eviction statistics
+     */
+    public Stats getCacheStats() {
+        CacheStats stats = cache.stats();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount());
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+    public void clearCache() {
+        cache.invalidateAll();
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
-        }
-        return entry;
+    /**
+     * Performs the pending maintenance, such as the removal of the expired and evicted entries.
+     */
+    void cleanUp() {
+        cache.cleanUp();
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    public void stopTimer(Vertx vertx) {
+        if (timerId != null && vertx.cancelTimer(timerId)) {
+            timerId = null;
+        }
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    public boolean isTimerRunning() {
+        return timerId != null;
     }
 
-    public int getCacheSize() {
-        return cacheMap.size();
+    /**
+     * The statistics of a cache since it was created.
+     *
+     * @param hitCount the number of lookups which found a value
+     * @param missCount the number of lookups which did not find a value
+     * @param evictionCount the number of entries evicted because the maximum size was reached
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount) {
+
     }
 
-    public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+    /**
+     * @param expiresAt the time in milliseconds at which the entry expires
+     */
+    private record CacheEntry<S>(S result, long expiresAt) {
+
     }
 
-    public void stopTimer(Vertx vertx) {
-        if (timerId != null && vertx.cancelTimer(timerId)) {
-            timerId = null;
+    private static final class EntryExpiry<S> implements Expiry<String, CacheEntry<S>> {
+
+        @Override
+        public long expireAfterCreate(String key, CacheEntry<S> entry, long currentTime) {
+            return remainingNanos(entry);
         }
-    }
 
-    public boolean isTimerRunning() {
-        return timerId != null;
-    }
+        @Override
+        public long expireAfterUpdate(String key, CacheEntry<S> entry, long currentTime, long currentDuration) {
+            return remainingNanos(entry);
+        }
 
-    private record CacheEntry<S>(S result, long createdTime) {
+        @Override
+        public long expireAfterRead(String key, CacheEntry<S> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
+        private static long remainingNanos(CacheEntry<?> entry) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(entry.expiresAt() - now(), 0));
+        }
     }
 
     private final class DeferredCacheValue implements CacheEntryAction {
@@ -195,28 +193,14 @@ private T computeIfAbsent(Function<CacheEntryAction, T> valueFactory) {
                 return valueFactory.apply(this);
             }
             if (cacheEntry == null) {
-                if (cacheMap.size() >= cacheSize) {
-                    removeInvalidEntries();
-                }
-                var createIfAbsent = new Function<String, CacheEntry<T>>() {
-
-                    private boolean applied = false;
-
+                startTimerIfNotRunning();
+                cacheEntry = cache.get(key, new Function<String, CacheEntry<T>>() {
                     @Override
                     public CacheEntry<T> apply(String k) {
-                        applied = true;
-                        long entryCreated = now() + GRACE_PERIOD_MILLIS;
-                        return new CacheEntry<>(valueFactory.apply(DeferredCacheValue.this), entryCreated);
-                    }
-                };
-                cacheEntry = cacheMap.computeIfAbsent(key, createIfAbsent);
-                if (createIfAbsent.applied) {
-                    startTimerIfNotRunning();
-                    size.incrementAndGet();
-                    if (cacheMap.size() > cacheSize) {
-                        evictEldest();
+                        long expiresAt = now() + GRACE_PERIOD_MILLIS + cacheTimeToLive.toMillis();
+                        return new CacheEntry<>(valueFactory.apply(DeferredCacheValue.this), expiresAt);
                     }
-                }
+                });
             }
             return cacheEntry.result();
         }
@@ -225,7 +209,7 @@ public CacheEntry<T> apply(String k) {
         public void remove() {
             var e = cacheEntry;
             if (e != null) {
-                removeCacheEntry(key, e);
+                cache.asMap().remove(key, e);
             }
         }
 
@@ -234,8 +218,8 @@ public void remove() {
         public void startCachingPeriod() {
             var oldEntry = cacheEntry;
             if (oldEntry != null) {
-                var newEntry = cacheEntry = new CacheEntry<>(oldEntry.result(), now());
-                cacheMap.replace(key, oldEntry, newEntry);
+                var newEntry = cacheEntry = new CacheEntry<>(oldEntry.result(), now() + cacheTimeToLive.toMillis());
+                cache.asMap().replace(key, oldEntry, newEntry);
             }
         }
 
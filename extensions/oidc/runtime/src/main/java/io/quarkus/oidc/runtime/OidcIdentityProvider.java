@@ -6,6 +6,7 @@
 import java.security.NoSuchAlgorithmException;
 import java.security.Principal;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,6 +42,7 @@
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.quarkus.security.spi.runtime.BlockingSecurityExecutor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 @ApplicationScoped
@@ -57,6 +59,9 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private final BlockingTaskRunner<Void> uniVoidOidcContext;
     private final BlockingTaskRunner<TokenIntrospection> getIntrospectionRequestContext;
     private final BlockingTaskRunner<UserInfo> getUserInfoRequestContext;
+    // the remote requests which are in progress for the tokens which are not cached yet
+    private final Map<String, Uni<TokenIntrospection>> pendingIntrospections = new ConcurrentHashMap<>();
+    private final Map<String, Uni<UserInfo>> pendingUserInfos = new ConcurrentHashMap<>();
 
     OidcIdentityProvider(DefaultTenantConfigResolver tenantResolver, BlockingSecurityExecutor blockingExecutor) {
         this.tenantResolver = tenantResolver;
@@ -778,23 +783,63 @@ public Uni<TokenIntrospection> get() {
     private Uni<TokenIntrospection> newTokenIntrospectionUni(TenantConfigContext resolvedContext, String token,
             TokenType tokenType,
             Long expiresIn, boolean fallbackFromJwkMatch) {
-        Uni<TokenIntrospection> tokenIntrospectionUni = resolvedContext.provider().introspectToken(token, tokenType, expiresIn,
-                fallbackFromJwkMatch);
         if (tenantResolver.getTokenIntrospectionCache() == null
                 || !resolvedContext.oidcConfig().allowTokenIntrospectionCache()) {
-            return tokenIntrospectionUni;
+            return resolvedContext.provider().introspectToken(token, tokenType, expiresIn, fallbackFromJwkMatch);
         } else {
-            return tokenIntrospectionUni.call(new Function<TokenIntrospection, Uni<?>>() {
+            // the introspection of the same token differs with the token type and whether it follows a failed JWK match
+            String key = pendingRequestKey(resolvedContext, token) + ":" + tokenType + ":" + fallbackFromJwkMatch;
+            return coalesce(pendingIntrospections, key, new Supplier<Uni<TokenIntrospection>>() {
 
                 @Override
-                public Uni<?> apply(TokenIntrospection introspection) {
-                    return tenantResolver.getTokenIntrospectionCache().addIntrospection(token, introspection,
-                            resolvedContext.oidcConfig(), uniVoidOidcContext);
+                public Uni<TokenIntrospection> get() {
+                    return resolvedContext.provider().introspectToken(token, tokenType, expiresIn, fallbackFromJwkMatch)
+                            .call(new Function<TokenIntrospection, Uni<?>>() {
+
+                                @Override
+                                public Uni<?> apply(TokenIntrospection introspection) {
+                                    return tenantResolver.getTokenIntrospectionCache().addIntrospection(token,
+                                            introspection, resolvedContext.oidcConfig(), uniVoidOidcContext);
+                                }
+                            });
                 }
             });
         }
     }
 
+    /**
+     * Concurrent requests which miss the cache for the same token share a single remote request, instead of all of
+     * them hitting the OIDC provider at once. The shared request is forgotten as soon as it completes, its result is
+     * expected to be cached by then.
+     */
+    private static <T> Uni<T> coalesce(Map<String, Uni<T>> pendingRequests, String key, Supplier<Uni<T>> remoteRequest) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+
+            @Override
+            public Uni<? extends T> get() {
+                Uni<T> pendingRequest = pendingRequests.computeIfAbsent(key, new Function<String, Uni<T>>() {
+
+                    @Override
+                    public Uni<T> apply(String k) {
+                        return remoteRequest.get()
+                                .onTermination().invoke(() -> pendingRequests.remove(k))
+                                .memoize().indefinitely();
+                    }
+                });
+                // the shared request may complete on the context of another request
+                var ctx = Vertx.currentContext();
+                if (ctx != null) {
+                    return pendingRequest.emitOn(command -> ctx.runOnContext(ignored -> command.run()));
+                }
+                return pendingRequest;
+            }
+        });
+    }
+
+    private static String pendingRequestKey(TenantConfigContext resolvedContext, String token) {
+        return resolvedContext.oidcConfig().tenantId().orElse(OidcUtils.DEFAULT_TENANT_ID) + ":" + token;
+    }
+
     private static Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
 
@@ -850,17 +895,22 @@ public Uni<UserInfo> get() {
     }
 
     private Uni<UserInfo> newUserInfoUni(TenantConfigContext resolvedContext, String accessToken) {
-        Uni<UserInfo> userInfoUni = resolvedContext.provider().getUserInfo(accessToken);
         if (tenantResolver.getUserInfoCache() == null || !resolvedContext.oidcConfig().allowUserInfoCache()
                 || OidcUtils.cacheUserInfoInIdToken(tenantResolver, resolvedContext.oidcConfig())) {
-            return userInfoUni;
+            return resolvedContext.provider().getUserInfo(accessToken);
         } else {
-            return userInfoUni.call(new Function<UserInfo, Uni<?>>() {
+            return coalesce(pendingUserInfos, pendingRequestKey(resolvedContext, accessToken), new Supplier<Uni<UserInfo>>() {
 
                 @Override
-                public Uni<?> apply(UserInfo userInfo) {
-                    return tenantResolver.getUserInfoCache().addUserInfo(accessToken, userInfo,
-                            resolvedContext.oidcConfig(), uniVoidOidcContext);
+                public Uni<UserInfo> get() {
+                    return resolvedContext.provider().getUserInfo(accessToken).call(new Function<UserInfo, Uni<?>>() {
+
+                        @Override
+                        public Uni<?> apply(UserInfo userInfo) {
+                            return tenantResolver.getUserInfoCache().addUserInfo(accessToken, userInfo,
+                                    resolvedContext.oidcConfig(), uniVoidOidcContext);
+                        }
+                    });
                 }
             });
         }
@@ -7,12 +7,14 @@
 import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -86,6 +88,7 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, Set<String>> requiredClaims;
     final AlgorithmConstraints requiredAlgorithmConstraints;
+    final MemoryCache<TokenVerificationResult> verifiedJwtCache;
 
     public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this(client, oidcConfig, jwks, TenantFeatureFinder.find(oidcConfig),
@@ -115,6 +118,7 @@ public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig,
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = customValidators == null ? List.of() : customValidators;
+        this.verifiedJwtCache = createVerifiedJwtCache();
         if (client != null) {
             this.client.setOidcProvider(this);
         }
@@ -137,6 +141,16 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = TenantFeatureFinder.find(oidcConfig, Validator.class);
+        this.verifiedJwtCache = createVerifiedJwtCache();
+    }
+
+    private MemoryCache<TokenVerificationResult> createVerifiedJwtCache() {
+        if (oidcConfig != null && oidcConfig.token().verifiedJwtCacheSize() > 0) {
+            // entries expire together with the tokens, the time-to-live is never used
+            return new MemoryCache<>(null, Optional.empty(), Duration.ZERO, oidcConfig.token().verifiedJwtCacheSize());
+        } else {
+            return null;
+        }
     }
 
     private AlgorithmConstraints checkSignatureAlgorithm() {
@@ -179,9 +193,36 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token, Key genera
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
             String nonce)
             throws InvalidJwtException {
-        return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+        if (verifiedJwtCache == null || nonce != null) {
+            return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+                    (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
+                    asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        }
+        final String cacheKey = verifiedJwtCacheKey(token, enforceAudienceVerification, subjectRequired);
+        TokenVerificationResult result = verifiedJwtCache.get(cacheKey);
+        if (result != null) {
+            // the signature and claims have already been verified, only the token age depends on the current time
+            verifyTokenAge(result.localVerificationResult().getLong(Claims.iat.name()));
+            return result;
+        }
+        result = verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, null,
                 (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
                 asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        final Long exp = result.localVerificationResult().getLong(Claims.exp.name());
+        if (exp != null) {
+            verifiedJwtCache.add(cacheKey, result, (exp + getLifespanGrace()) * 1000);
+        }
+        return result;
+    }
+
+    private static String verifiedJwtCacheKey(String token, boolean enforceAudienceVerification, boolean subjectRequired) {
+        try {
+            // the same token can be verified with different options, for example, as an ID token and as an access token
+            return (enforceAudienceVerification ? "a" : "-") + (subjectRequired ? "s" : "-")
+                    + Base64.getUrlEncoder().withoutPadding().encodeToString(OidcUtils.getSha256Digest(token));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new OIDCException(ex);
+        }
     }
 
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
@@ -522,6 +563,9 @@ public void close() {
         if (client != null) {
             client.close();
         }
+        if (verifiedJwtCache != null) {
+            verifiedJwtCache.clearCache();
+        }
     }
 
     private class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
@@ -645,6 +689,10 @@ public Uni<Void> refresh() {
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
                                 jwks = t;
+                                if (verifiedJwtCache != null) {
+                                    // the tokens signed with the keys which are no longer available must be verified again
+                                    verifiedJwtCache.clearCache();
+                                }
                                 return Uni.createFrom().voidItem();
                             }
 
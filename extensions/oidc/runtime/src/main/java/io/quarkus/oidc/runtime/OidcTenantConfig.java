@@ -1285,6 +1285,19 @@ interface Token {
         @WithDefault("false")
         boolean requireJwtIntrospectionOnly();
 
+        /**
+         * Maximum number of locally verified JWT bearer access tokens whose verification results are kept in memory.
+         * <p>
+         * Clients usually send the same bearer access token many times until it expires. When this property is set to
+         * a positive value, the signature and claims of such a token are verified only once, and the verification
+         * result is reused until the token expires. The token age is still checked on every request.
+         * The cache is cleared whenever the JSON Web Key Set is refreshed.
+         * <p>
+         * The cache is disabled by default.
+         */
+        @WithDefault("0")
+        int verifiedJwtCacheSize();
+
         /**
          * Allow the remote introspection of the opaque tokens.
          *
@@ -29,7 +29,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
             Duration forcedJwkRefreshInterval, Optional<String> header,
             String authorizationScheme, Optional<OidcTenantConfig.SignatureAlgorithm> signatureAlgorithm,
             Optional<String> decryptionKeyLocation, Optional<Boolean> decryptIdToken, boolean decryptAccessToken,
-            boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly,
+            boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly, int verifiedJwtCacheSize,
             boolean allowOpaqueTokenIntrospection, Optional<String> customizerName,
             Optional<Boolean> verifyAccessTokenWithUserInfo, Binding binding) implements OidcTenantConfig.Token {
     }
@@ -56,6 +56,7 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
     private boolean decryptAccessToken;
     private boolean allowJwtIntrospection;
     private boolean requireJwtIntrospectionOnly;
+    private int verifiedJwtCacheSize;
     private boolean allowOpaqueTokenIntrospection;
     private Optional<String> customizerName;
     private Optional<Boolean> verifyAccessTokenWithUserInfo;
@@ -93,6 +94,7 @@ public TokenConfigBuilder(OidcTenantConfigBuilder builder) {
         this.decryptAccessToken = token.decryptAccessToken();
         this.allowJwtIntrospection = token.allowJwtIntrospection();
         this.requireJwtIntrospectionOnly = token.requireJwtIntrospectionOnly();
+        this.verifiedJwtCacheSize = token.verifiedJwtCacheSize();
         this.allowOpaqueTokenIntrospection = token.allowOpaqueTokenIntrospection();
         this.customizerName = token.customizerName();
         this.verifyAccessTokenWithUserInfo = token.verifyAccessTokenWithUserInfo();
@@ -421,6 +423,15 @@ public TokenConfigBuilder requireJwtIntrospectionOnly(boolean requireJwtIntrospe
         return this;
     }
 
+    /**
+     * @param verifiedJwtCacheSize {@link OidcTenantConfig.Token#verifiedJwtCacheSize()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedJwtCacheSize(int verifiedJwtCacheSize) {
+        this.verifiedJwtCacheSize = verifiedJwtCacheSize;
+        return this;
+    }
+
     /**
      * Sets {@link OidcTenantConfig.Token#allowOpaqueTokenIntrospection()} to true.
      *
@@ -502,8 +513,8 @@ public OidcTenantConfig.Token build() {
                 refreshTokenCacheTimeToLive,
                 forcedJwkRefreshInterval, header, authorizationScheme, signatureAlgorithm, decryptionKeyLocation,
                 decryptIdToken,
-                decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, allowOpaqueTokenIntrospection,
-                customizerName,
+                decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, verifiedJwtCacheSize,
+                allowOpaqueTokenIntrospection, customizerName,
                 verifyAccessTokenWithUserInfo, binding);
     }
 
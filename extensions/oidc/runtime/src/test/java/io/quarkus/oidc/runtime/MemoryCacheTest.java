@@ -9,6 +9,8 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
@@ -80,15 +82,44 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // "1" is used frequently
+        for (int i = 0; i < 10; i++) {
+            assertEquals("1", cache.get("1").name);
+        }
 
+        // If the cache is full then only a single entry is evicted and the frequently used entry is kept
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        cache.cleanUp();
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+        assertEquals(1, cache.getCacheStats().evictionCount());
+    }
 
-        assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
-        assertEquals("3", cache.get("3").name);
+    @Test
+    public void testDeferredValue() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 second
+                Duration.ofSeconds(1),
+                // max cache size
+                2);
+
+        AtomicInteger computed = new AtomicInteger();
+        Function<MemoryCache.CacheEntryAction, Bean> factory = new Function<MemoryCache.CacheEntryAction, Bean>() {
+
+            @Override
+            public Bean apply(MemoryCache.CacheEntryAction action) {
+                computed.incrementAndGet();
+                return new Bean("1");
+            }
+        };
+        assertEquals("1", cache.getOrComputeDeferredValue("1", factory).name);
+        assertEquals("1", cache.getOrComputeDeferredValue("1", factory).name);
+        assertEquals(1, computed.get());
+        assertEquals(1, cache.getCacheStats().hitCount());
+        assertEquals(1, cache.getCacheStats().missCount());
     }
 
     static class Bean {
@@ -1,7 +1,9 @@
 package io.quarkus.oidc.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -9,6 +11,7 @@
 import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
@@ -311,4 +314,77 @@ public String validate(JwtContext jwtContext) throws MalformedClaimException {
         }
     }
 
+    @Test
+    public void testVerifiedJwtCache() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.verifiedJwtCacheSize = 10;
+
+        AtomicInteger verifications = new AtomicInteger();
+        Validator validator = new Validator() {
+            @Override
+            public String validate(JwtContext jwtContext) {
+                verifications.incrementAndGet();
+                return null;
+            }
+        };
+
+        final String token = Jwt.issuer("http://keycloak/realm").subject("alice").jws().keyId("k1")
+                .sign(rsaJsonWebKey.getPrivateKey());
+        final String expiredToken = Jwt.issuer("http://keycloak/realm").expiresAt(Instant.now().minusSeconds(10))
+                .jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet, null, List.of(validator))) {
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertEquals("alice", result.localVerificationResult().getString("sub"));
+            assertEquals(1, verifications.get());
+
+            // the verification result is reused
+            assertSame(result, provider.verifyJwtToken(token, false, false, null));
+            assertEquals(1, verifications.get());
+
+            // the token is verified again if the verification options are different
+            provider.verifyJwtToken(token, false, true, null);
+            assertEquals(2, verifications.get());
+
+            // the tokens verified with the nonce are not cached
+            try {
+                provider.verifyJwtToken(token, false, false, "nonce");
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                // continue
+            }
+            assertEquals(2, provider.verifiedJwtCache.getCacheSize());
+
+            // the tokens which have failed the verification are not cached
+            for (int i = 0; i < 2; i++) {
+                try {
+                    provider.verifyJwtToken(expiredToken, false, false, null);
+                    fail("InvalidJwtException expected");
+                } catch (InvalidJwtException ex) {
+                    // continue
+                }
+            }
+            assertEquals(2, provider.verifiedJwtCache.getCacheSize());
+        }
+    }
+
+    @Test
+    public void testVerifiedJwtCacheDisabledByDefault() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        final String token = Jwt.issuer("http://keycloak/realm").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        try (OidcProvider provider = new OidcProvider(null, new OidcTenantConfig(), jwkSet)) {
+            assertNull(provider.verifiedJwtCache);
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertNotSame(result, provider.verifyJwtToken(token, false, false, null));
+        }
+    }
+
 }
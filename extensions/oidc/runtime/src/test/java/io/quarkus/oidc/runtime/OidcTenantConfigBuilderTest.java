@@ -97,6 +97,7 @@ public void testDefaultValues() {
         assertTrue(token.decryptionKeyLocation().isEmpty());
         assertTrue(token.allowJwtIntrospection());
         assertFalse(token.requireJwtIntrospectionOnly());
+        assertEquals(0, token.verifiedJwtCacheSize());
         assertTrue(token.allowOpaqueTokenIntrospection());
         assertTrue(token.customizerName().isEmpty());
         assertTrue(token.verifyAccessTokenWithUserInfo().isEmpty());
@@ -285,6 +286,7 @@ public void testSetEveryProperty() {
                 .customizerName("customizer-name-8")
                 .allowOpaqueTokenIntrospection(false)
                 .requireJwtIntrospectionOnly()
+                .verifiedJwtCacheSize(500)
                 .allowJwtIntrospection(false)
                 .decryptionKeyLocation("decryption-key-location-test")
                 .signatureAlgorithm(PS384)
@@ -490,6 +492,7 @@ public void testSetEveryProperty() {
         assertEquals("decryption-key-location-test", token.decryptionKeyLocation().orElse(null));
         assertFalse(token.allowJwtIntrospection());
         assertTrue(token.requireJwtIntrospectionOnly());
+        assertEquals(500, token.verifiedJwtCacheSize());
         assertFalse(token.allowOpaqueTokenIntrospection());
         assertEquals("customizer-name-8", token.customizerName().orElse(null));
         assertTrue(token.verifyAccessTokenWithUserInfo().orElseThrow());
@@ -199,6 +199,7 @@ enum ConfigMappingMethods {
         TOKEN_DECRYPT_ACCESS_TOKEN,
         TOKEN_ALLOW_JWT_INTROSPECTION,
         TOKEN_REQUIRE_JWT_INTROSPECTION_ONLY,
+        TOKEN_VERIFIED_JWT_CACHE_SIZE,
         TOKEN_ALLOW_OPAQUE_TOKEN_INTROSPECTION,
         TOKEN_CUSTOMIZER_NAME,
         TOKEN_VERIFY_ACCESS_TOKEN_WITH_USER_INFO,
@@ -463,6 +464,12 @@ public boolean requireJwtIntrospectionOnly() {
                 return false;
             }
 
+            @Override
+            public int verifiedJwtCacheSize() {
+                invocationsRecorder.put(ConfigMappingMethods.TOKEN_VERIFIED_JWT_CACHE_SIZE, true);
+                return 0;
+            }
+
             @Override
             public boolean allowOpaqueTokenIntrospection() {
                 invocationsRecorder.put(ConfigMappingMethods.TOKEN_ALLOW_OPAQUE_TOKEN_INTROSPECTION, true);
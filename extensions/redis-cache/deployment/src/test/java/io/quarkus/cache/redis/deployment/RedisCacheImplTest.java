@@ -2,17 +2,24 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -28,6 +35,7 @@
 import io.quarkus.test.QuarkusExtensionTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.Json;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Redis;
@@ -621,6 +629,141 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    public void testGetAllAndPutAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.putAll(Map.of("a", "value-a", "b", "value-b")).await().indefinitely();
+        assertThatTheKeyDoesExist("cache:bulk:a");
+        assertThatTheKeyDoesExist("cache:bulk:b");
+
+        List<Set<String>> loaded = new ArrayList<>();
+        Map<String, String> values = cache.getAll(List.of("c", "a", "d", "b", "a"), String.class, missing -> {
+            loaded.add(missing);
+            return Uni.createFrom().item(Map.of("c", "value-c"));
+        }).await().indefinitely();
+
+        // only the missing keys are loaded, and only the loaded values are cached
+        assertThat(loaded).containsExactly(Set.of("c", "d"));
+        assertThat(values).containsExactly(entry("c", "value-c"), entry("a", "value-a"), entry("b", "value-b"));
+        assertThatTheKeyDoesExist("cache:bulk:c");
+        assertThatTheKeyDoesNotExist("cache:bulk:d");
+        assertThat(cache.getOrNull("c", String.class).await().indefinitely()).isEqualTo("value-c");
+
+        loaded.clear();
+        values = cache.getAll(List.of("a", "b", "c"), String.class, missing -> {
+            loaded.add(missing);
+            return Uni.createFrom().item(Map.of());
+        }).await().indefinitely();
+        assertThat(loaded).isEmpty();
+        assertThat(values).containsOnlyKeys("a", "b", "c");
+    }
+
+    @Test
+    public void testMicroBatching() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "batched";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.microBatching = true;
+        List<Integer> batchedGets = new CopyOnWriteArrayList<>();
+        AtomicInteger singleGets = new AtomicInteger();
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, countingGets(batchedGets, singleGets), BLOCKING_ALLOWED);
+        cache.put("existing", "hello").await().indefinitely();
+
+        // the lookups started from the same event loop task are sent together
+        List<String> values = Uni.createFrom().<List<String>> emitter(emitter -> vertx.runOnContext(() -> {
+            List<Uni<String>> lookups = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                lookups.add(cache.getOrNull("existing", String.class));
+                lookups.add(cache.get("key-" + i, String.class, k -> "value-" + k));
+            }
+            lookups.add(cache.getOrDefault("missing", String.class, "default"));
+            Uni.join().all(lookups).andFailFast().subscribe().with(emitter::complete, emitter::fail);
+        })).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).hasSize(21);
+        for (int i = 0; i < 10; i++) {
+            assertThat(values.get(2 * i)).isEqualTo("hello");
+            assertThat(values.get(2 * i + 1)).isEqualTo("value-key-" + i);
+        }
+        assertThat(values.get(20)).isEqualTo("default");
+        // all the lookups were sent in a single pipelined batch
+        assertThat(batchedGets).containsExactly(21);
+        assertThat(singleGets).hasValue(0);
+
+        assertThatTheKeyDoesExist("cache:batched:key-9");
+        // the lookups that are not started from an event loop are not batched
+        assertThat(cache.getOrNull("key-9", String.class).await().indefinitely()).isEqualTo("value-key-9");
+        assertThat(batchedGets).containsExactly(21);
+        assertThat(singleGets).hasValue(1);
+    }
+
+    @Test
+    public void testMicroBatchedLookupsCompleteOnTheirContext() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "batched-contexts";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.microBatching = true;
+        List<Integer> batchedGets = new CopyOnWriteArrayList<>();
+        AtomicInteger singleGets = new AtomicInteger();
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, countingGets(batchedGets, singleGets), BLOCKING_ALLOWED);
+        cache.put("existing", "hello").await().indefinitely();
+
+        // the lookups are started from two duplicated contexts by the same event loop task
+        List<Boolean> onTheirContext = Uni.createFrom().<List<Boolean>> emitter(emitter -> vertx.runOnContext(() -> {
+            ContextInternal current = (ContextInternal) io.vertx.core.Vertx.currentContext();
+            List<Uni<Boolean>> lookups = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                ContextInternal duplicate = current.duplicate();
+                CompletableFuture<Boolean> onContext = new CompletableFuture<>();
+                duplicate.dispatch(() -> cache.getOrNull("existing", String.class).subscribe().with(
+                        value -> onContext.complete(io.vertx.core.Vertx.currentContext() == duplicate),
+                        onContext::completeExceptionally));
+                lookups.add(Uni.createFrom().completionStage(onContext));
+            }
+            Uni.join().all(lookups).andFailFast().subscribe().with(emitter::complete, emitter::fail);
+        })).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(onTheirContext).containsExactly(true, true);
+        assertThat(batchedGets).containsExactly(2);
+        assertThat(singleGets).hasValue(0);
+    }
+
+    /**
+     * @return a client which records the number of GET commands of each batch, and the number of GET commands sent alone
+     */
+    private Redis countingGets(List<Integer> batchedGets, AtomicInteger singleGets) {
+        io.vertx.redis.client.Redis delegate = redis.getDelegate();
+        return new Redis((io.vertx.redis.client.Redis) Proxy.newProxyInstance(
+                io.vertx.redis.client.Redis.class.getClassLoader(), new Class<?>[] { io.vertx.redis.client.Redis.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("send") && Command.GET.equals(((Request) args[0]).command())) {
+                        singleGets.incrementAndGet();
+                    } else if (method.getName().equals("batch")) {
+                        int gets = 0;
+                        for (Object request : (List<?>) args[0]) {
+                            if (Command.GET.equals(((Request) request).command())) {
+                                gets++;
+                            }
+                        }
+                        if (gets > 0) {
+                            batchedGets.add(gets);
+                        }
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -0,0 +1,175 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.ProtocolVersion;
+import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.Request;
+
+class RedisNearCacheTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testNearCacheHits() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k, "hello").await().indefinitely();
+
+        // the tracking connection is established asynchronously, once it is the reads no longer reach Redis
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            long hits = keyspaceHits();
+            for (int i = 0; i < 10; i++) {
+                assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            }
+            assertThat(keyspaceHits()).isEqualTo(hits);
+        });
+    }
+
+    @Test
+    public void testNearCacheInvalidation() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(k, String.class, s -> "hello-" + loads.incrementAndGet()).await().indefinitely())
+                .isEqualTo("hello-1");
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(cache.get(k, String.class, s -> "hello-" + loads.incrementAndGet()).await().indefinitely())
+                    .isEqualTo("hello-1");
+        });
+
+        // modified by another client
+        redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("modified")).await().indefinitely();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(cache.get(k, String.class, s -> "hello-" + loads.incrementAndGet()).await().indefinitely())
+                    .isEqualTo("modified");
+        });
+
+        // deleted by another client
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(cache.get(k, String.class, s -> "hello-" + loads.incrementAndGet()).await().indefinitely())
+                    .startsWith("hello-").isNotEqualTo("hello-1");
+        });
+
+        // invalidated locally
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getOrDefault(k, String.class, "none").await().indefinitely()).isEqualTo("none");
+    }
+
+    @Test
+    public void testTrackingConnectionClosed() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k, "hello").await().indefinitely();
+        long trackingClients = trackingClients();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            assertThat(trackingClients()).isEqualTo(trackingClients + 1);
+        });
+
+        cache.close();
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(trackingClients()).isEqualTo(trackingClients);
+        });
+        // the reads reach Redis again and the tracking connection is not reopened
+        long hits = keyspaceHits();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+        assertThat(keyspaceHits()).isEqualTo(hits + 1);
+        assertThat(trackingClients()).isEqualTo(trackingClients);
+    }
+
+    @Test
+    public void testNearCacheDisabledWithoutResp3() {
+        String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
+        Redis resp2 = Redis.createClient(vertx, new RedisOptions()
+                .setConnectionString(redisUrl)
+                .setPreferredProtocolVersion(ProtocolVersion.RESP2));
+        String k = UUID.randomUUID().toString();
+        RedisCacheImpl cache = new RedisCacheImpl(nearCacheInfo(), vertx, resp2, BLOCKING_ALLOWED);
+        cache.put(k, "hello").await().indefinitely();
+        long trackingClients = trackingClients();
+
+        // the invalidation messages would not be received, so the reads always reach Redis
+        for (int i = 0; i < 10; i++) {
+            long hits = keyspaceHits();
+            assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+            assertThat(keyspaceHits()).isEqualTo(hits + 1);
+        }
+        assertThat(trackingClients()).isEqualTo(trackingClients);
+        resp2.close();
+    }
+
+    private long trackingClients() {
+        String clients = redis.send(Request.cmd(Command.CLIENT).arg("LIST")).await().indefinitely().toString();
+        long count = 0;
+        for (String line : clients.split("\r?\n")) {
+            for (String field : line.split(" ")) {
+                // the "t" flag is set on the clients which enabled the keys tracking
+                if (field.startsWith("flags=") && field.indexOf('t', "flags=".length()) > 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private long keyspaceHits() {
+        String stats = redis.send(Request.cmd(Command.INFO).arg("stats")).await().indefinitely().toString();
+        for (String line : stats.split("\r?\n")) {
+            if (line.startsWith("keyspace_hits:")) {
+                return Long.parseLong(line.substring("keyspace_hits:".length()).trim());
+            }
+        }
+        throw new IllegalStateException("keyspace_hits not found: " + stats);
+    }
+
+    private static RedisCacheInfo nearCacheInfo() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        info.nearCache = true;
+        return info;
+    }
+}
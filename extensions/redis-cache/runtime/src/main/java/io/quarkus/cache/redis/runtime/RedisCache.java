@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +79,48 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Allows retrieving several values from the Redis cache in a single round trip.
+     * <p>
+     * The values of all the keys are read with a single {@code MGET} command. The values of the keys that are not
+     * stored in the cache are computed with a single invocation of the {@code missingValuesLoader} and then stored with
+     * pipelined {@code SET} commands. Optimistic locking is not used by this method.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param missingValuesLoader the loader called with the keys which have no value stored in the cache, the keys absent
+     *        from the returned map or mapped to {@code null} are not cached
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the values, in the iteration order of {@code keys}; the keys without a value are absent
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache in a single round trip.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param missingValuesLoader the loader called with the keys which have no value stored in the cache, the keys absent
+     *        from the returned map or mapped to {@code null} are not cached
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the values, in the iteration order of {@code keys}; the keys without a value are absent
+     * @see #getAll(Collection, Class, Function)
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader);
+
+    /**
+     * Put several values in the cache, the {@code SET} commands are pipelined.
+     *
+     * @param entries the keys and values
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Uni emitting {@code null} when the operation completes
+     */
+    <K, V> Uni<Void> putAll(Map<K, V> entries);
+
     /**
      * Put a value in the cache.
      *
@@ -4,7 +4,15 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +54,8 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    private static final long DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 10_000;
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,6 +67,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+
+    private final RedisGetBatcher batcher;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +102,13 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        if (cacheInfo.nearCache) {
+            this.nearCache = new RedisNearCache(redis, getKeyPrefix() + ":",
+                    cacheInfo.nearCacheMaximumSize.orElse(DEFAULT_NEAR_CACHE_MAXIMUM_SIZE));
+        } else {
+            this.nearCache = null;
+        }
+        this.batcher = cacheInfo.microBatching && !cacheInfo.useOptimisticLocking ? new RedisGetBatcher(redis) : null;
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -100,6 +121,15 @@ public String getName() {
         return Objects.requireNonNullElse(cacheInfo.name, "default-redis-cache");
     }
 
+    /**
+     * Releases the resources held by this cache, i.e. the connection used by the near-cache.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
+    }
+
     @Override
     public Object getDefaultKey() {
         return "default-cache-key";
@@ -158,17 +188,31 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey, type);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        if (batcher != null && !isWorkerThread) {
+            return getBatched(key, actualKey, encodedKey, type, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return computeValue(k, valueLoader, false);
+                }
+            });
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, marshaller));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, actualKey, encodedKey, marshaller)
+                            .get();
                 }
 
                 return startingPoint
@@ -238,16 +282,25 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey, type);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
+        if (batcher != null) {
+            return getBatched(key, actualKey, encodedKey, type, valueLoader);
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, marshaller));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, actualKey, encodedKey, marshaller)
+                            .get();
                 }
 
                 return startingPoint
@@ -289,16 +342,230 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
+        }).invoke(new Runnable() {
+            @Override
+            public void run() {
+                invalidateNearCache(actualKey);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader) {
+        return getAll(keys, (Type) clazz, missingValuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader) {
+        return getAll(keys, type.getType(), missingValuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader) {
+        // MGET K1 K2 ... Kn (or pipelined GETEX with expire-after-access)
+        // if some values are missing => pipelined SET Ki computation.apply(missing keys)
+        Map<K, V> found = new HashMap<>();
+        List<K> remoteKeys = new ArrayList<>();
+        List<String> remoteActualKeys = new ArrayList<>();
+        Set<K> distinctKeys = new HashSet<>();
+        for (K key : keys) {
+            if (!distinctKeys.add(key)) {
+                continue;
+            }
+            String actualKey = computeActualKey(encodeKey(key));
+            V local = getFromNearCache(actualKey, type);
+            if (local != null) {
+                found.put(key, local);
+            } else {
+                remoteKeys.add(key);
+                remoteActualKeys.add(actualKey);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return Uni.createFrom().item(inKeysOrder(keys, found));
+        }
+        long stamp = nearCache != null ? nearCache.stamp() : 0;
+        return mget(remoteActualKeys)
+                .chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<Response> responses) {
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        for (int i = 0; i < remoteKeys.size(); i++) {
+                            V value = marshaller.decode(type, responses.get(i));
+                            if (value != null) {
+                                found.put(remoteKeys.get(i), value);
+                                if (nearCache != null) {
+                                    nearCache.put(remoteActualKeys.get(i), type, value, stamp);
+                                }
+                            } else {
+                                missingKeys.add(remoteKeys.get(i));
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(inKeysOrder(keys, found));
+                        }
+                        return loadAll(missingKeys, missingValuesLoader)
+                                .call(new Function<Map<K, V>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<K, V> loaded) {
+                                        return putAll(loaded);
+                                    }
+                                })
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        found.putAll(loaded);
+                                        return inKeysOrder(keys, found);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return loadAll(new LinkedHashSet<>(remoteKeys), missingValuesLoader)
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        found.putAll(loaded);
+                                        return inKeysOrder(keys, found);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private static <K, V> Uni<Map<K, V>> loadAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> missingValuesLoader) {
+        return missingValuesLoader.apply(Collections.unmodifiableSet(keys))
+                .map(new Function<Map<K, V>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<K, V> loaded) {
+                        // only the requested keys with a value are cached
+                        Map<K, V> result = new HashMap<>();
+                        if (loaded != null) {
+                            for (K key : keys) {
+                                V value = loaded.get(key);
+                                if (value != null) {
+                                    result.put(key, value);
+                                }
+                            }
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    private static <K, V> Map<K, V> inKeysOrder(Collection<K> keys, Map<K, V> values) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private Uni<List<Response>> mget(List<String> actualKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // MGET does not update the expiration, GETEX has to be used for each key
+            List<Request> requests = new ArrayList<>(actualKeys.size());
+            for (String actualKey : actualKeys) {
+                requests.add(getRequest(marshaller.encode(actualKey)));
+            }
+            return redis.batch(requests);
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys) {
+            request.arg(marshaller.encode(actualKey));
+        }
+        return redis.send(request).map(new Function<Response, List<Response>>() {
+            @Override
+            public List<Response> apply(Response response) {
+                List<Response> responses = new ArrayList<>(actualKeys.size());
+                for (int i = 0; i < actualKeys.size(); i++) {
+                    responses.add(response.get(i));
+                }
+                return responses;
+            }
         });
     }
 
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(entries.size());
+        List<String> actualKeys = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Cannot cache `null` value");
+            }
+            String actualKey = computeActualKey(encodeKey(entry.getKey()));
+            actualKeys.add(actualKey);
+            requests.add(setRequest(marshaller.encode(actualKey), marshaller.encode(entry.getValue())));
+        }
+        // the SET commands are pipelined
+        return redis.batch(requests)
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (String actualKey : actualKeys) {
+                            invalidateNearCache(actualKey);
+                        }
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    private <K, V> Uni<V> getBatched(K key, String actualKey, byte[] encodedKey, Type type,
+            Function<K, Uni<V>> valueLoader) {
+        return this.<V> decode(batcher.send(getRequest(encodedKey)), actualKey, type, marshaller)
+                .chain(new Function<V, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(V cached) {
+                        if (cached != null) {
+                            return Uni.createFrom().item(new StaticSupplier<>(cached));
+                        }
+                        return valueLoader.apply(key).call(new Function<V, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(V value) {
+                                if (value == null) {
+                                    throw new IllegalArgumentException("Cannot cache `null` value");
+                                }
+                                return redis.send(setRequest(encodedKey, marshaller.encode(value)))
+                                        .invoke(new Runnable() {
+                                            @Override
+                                            public void run() {
+                                                invalidateNearCache(actualKey);
+                                            }
+                                        });
+                            }
+                        });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached value", e);
+                        return valueLoader.apply(key);
+                    }
+                });
+    }
+
     private void enforceDefaultType(String methodName) {
         if (classOfValue == null) {
             throw new UnsupportedOperationException("Cannot use `" + methodName + "` method without a default type configured. "
@@ -325,13 +592,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return this.<K, V> getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,19 +612,34 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V local = getFromNearCache(actualKey, type);
+        if (local != null) {
+            return Uni.createFrom().item(local);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
+        if (batcher != null) {
+            return decode(batcher.send(getRequest(encodedKey)), actualKey, type, marshaller);
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, actualKey, encodedKey, type, marshaller);
             }
         });
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        invalidateNearCache(actualKey);
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -383,17 +659,24 @@ public void accept(UniEmitter<? super Set<String>> uniEmitter) {
             @Override
             public Uni<?> apply(Set<String> setOfKeys) {
                 var req = Request.cmd(Command.DEL);
-                boolean hasAtLeastOneMatch = false;
+                List<String> matchingKeys = new ArrayList<>();
                 for (String key : setOfKeys) {
                     Object userKey = computeUserKey(key);
                     if (predicate.test(userKey)) {
-                        hasAtLeastOneMatch = true;
+                        matchingKeys.add(key);
                         req.arg(marshaller.encode(key));
                     }
                 }
-                if (hasAtLeastOneMatch) {
+                if (!matchingKeys.isEmpty()) {
                     // We cannot send the command without parameters, it would not be a valid command.
-                    return redis.send(req);
+                    return redis.send(req).invoke(new Runnable() {
+                        @Override
+                        public void run() {
+                            for (String key : matchingKeys) {
+                                invalidateNearCache(key);
+                            }
+                        }
+                    });
                 } else {
                     return Uni.createFrom().voidItem();
                 }
@@ -479,19 +762,23 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
-    private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
+    private <X> Uni<X> doGet(RedisConnection connection, String actualKey, byte[] encoded, Type clazz,
             Marshaller marshaller) {
+        return decode(connection.send(getRequest(encoded)), actualKey, clazz, marshaller);
+    }
+
+    private Request getRequest(byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds());
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
+            return Request.cmd(Command.GET).arg(encoded);
+        }
+    }
+
+    private <X> Uni<X> decode(Uni<Response> response, String actualKey, Type clazz, Marshaller marshaller) {
+        if (nearCache == null) {
+            return response
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
@@ -499,14 +786,41 @@ public X apply(Response r) {
                         }
                     });
         }
+        // the stamp is taken before the request is sent
+        long stamp = nearCache.stamp();
+        return response
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        X value = marshaller.decode(clazz, r);
+                        nearCache.put(actualKey, clazz, value, stamp);
+                        return value;
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String actualKey, Type type) {
+        return nearCache != null ? (V) nearCache.get(actualKey, type) : null;
+    }
+
+    private void invalidateNearCache(String actualKey) {
+        // Redis also sends an invalidation message, but it may arrive after the next read
+        if (nearCache != null) {
+            nearCache.invalidate(actualKey);
+        }
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -542,19 +856,22 @@ public V get() {
     private class GetFromConnectionSupplier<V> implements Supplier<Uni<? extends V>> {
         private final RedisConnection connection;
         private final Type clazz;
+        private final String actualKey;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, String actualKey, byte[] encodedKey,
+                Marshaller marshaller) {
             this.connection = connection;
             this.clazz = clazz;
+            this.actualKey = actualKey;
             this.encodedKey = encodedKey;
             this.marshaller = marshaller;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            return doGet(connection, actualKey, encodedKey, clazz, marshaller);
         }
     }
 
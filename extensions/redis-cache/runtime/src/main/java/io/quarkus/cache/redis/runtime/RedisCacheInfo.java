@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,19 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the values read from Redis should also be kept in a local in-memory near-cache
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries of the near-cache
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * Whether the concurrent lookups of single entries started from the same event loop task should be coalesced
+     */
+    public boolean microBatching = false;
 }
@@ -67,6 +67,24 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = namedRuntimeConfig.nearCache().get();
+                } else if (defaultRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = defaultRuntimeConfig.nearCache().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.microBatching().isPresent()) {
+                    cacheInfo.microBatching = namedRuntimeConfig.microBatching().get();
+                } else if (defaultRuntimeConfig.microBatching().isPresent()) {
+                    cacheInfo.microBatching = defaultRuntimeConfig.microBatching().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
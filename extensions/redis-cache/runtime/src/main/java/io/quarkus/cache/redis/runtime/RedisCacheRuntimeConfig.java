@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,31 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether the values read from Redis should also be kept in a local in-memory near-cache.
+     * <p>
+     * The near-cache is kept consistent with Redis using the Redis server-assisted client side caching: a dedicated
+     * connection enables {@code CLIENT TRACKING} for the keys of the cache and Redis notifies it whenever such a key is
+     * modified, whatever the client that modified it. It requires Redis 6 or later and the {@code RESP3} protocol.
+     * When the tracking connection cannot be established, the near-cache is not used.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCache();
+
+    /**
+     * The maximum number of entries of the near-cache.
+     * Default is {@code 10000}.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Whether the concurrent lookups of single entries should be coalesced.
+     * <p>
+     * When enabled, the lookups started from the same event loop task are sent to Redis together, in a single pipelined
+     * round trip, once the task is completed. The lookups started from worker threads are not coalesced, and the lookups
+     * are never coalesced when optimistic locking is used.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> microBatching();
 }
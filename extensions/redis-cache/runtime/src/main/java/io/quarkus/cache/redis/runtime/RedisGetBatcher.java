@@ -0,0 +1,109 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Coalesces the read requests sent from the same event loop.
+ * <p>
+ * The requests sent while an event loop task is running are collected and sent together, in a single pipelined round
+ * trip, once the task is completed. The requests sent from other threads are sent immediately.
+ * <p>
+ * The requests of a batch may be sent from different (duplicated) contexts of the event loop, so each request is completed
+ * on the context it was sent from.
+ */
+class RedisGetBatcher {
+
+    private final Redis redis;
+
+    // the requests collected by the current task of each event loop thread
+    private final ThreadLocal<List<Pending>> pending;
+
+    RedisGetBatcher(Redis redis) {
+        this.redis = redis;
+        this.pending = new ThreadLocal<>();
+    }
+
+    Uni<Response> send(Request request) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Response>>() {
+            @Override
+            public void accept(UniEmitter<? super Response> emitter) {
+                Context context = io.vertx.core.Vertx.currentContext();
+                if (context == null || !Context.isOnEventLoopThread()) {
+                    redis.send(request).subscribe().with(emitter::complete, emitter::fail);
+                    return;
+                }
+                List<Pending> batch = pending.get();
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                    pending.set(batch);
+                    // the tasks are executed in order, so all the requests of the current task are sent together
+                    context.runOnContext(ignored -> flush());
+                }
+                batch.add(new Pending(request, emitter, context));
+            }
+        });
+    }
+
+    private void flush() {
+        List<Pending> batch = pending.get();
+        pending.remove();
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            Pending single = batch.get(0);
+            redis.send(single.request()).subscribe().with(single::complete, single::fail);
+            return;
+        }
+        List<Request> requests = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            requests.add(p.request());
+        }
+        redis.batch(requests).subscribe().with(new Consumer<List<Response>>() {
+            @Override
+            public void accept(List<Response> responses) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(responses.get(i));
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                for (Pending p : batch) {
+                    p.fail(failure);
+                }
+            }
+        });
+    }
+
+    private record Pending(Request request, UniEmitter<? super Response> emitter, Context context) {
+
+        void complete(Response response) {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    emitter.complete(response);
+                }
+            });
+        }
+
+        void fail(Throwable failure) {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    emitter.fail(failure);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A local in-memory cache kept in front of Redis.
+ * <p>
+ * The local entries are kept consistent with Redis using the server-assisted client side caching: a dedicated connection
+ * enables {@code CLIENT TRACKING} in the broadcasting mode for the key prefix of the cache, and Redis pushes an
+ * invalidation message to this connection whenever such a key is modified, deleted, expired or evicted, regardless of
+ * the client that modified it. The invalidation messages are pushed to the tracking connection only if it uses the RESP3
+ * protocol, so the protocol of the connection is checked first and the near-cache is disabled if it is not RESP3.
+ * <p>
+ * The local entries are only used while the tracking connection is established. When the connection is lost, all the
+ * local entries are discarded as the invalidation messages could have been missed.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    private static final long RECONNECT_DELAY = TimeUnit.SECONDS.toMillis(10);
+
+    private final Redis redis;
+    private final String keyPrefix;
+    private final Cache<String, Entry> cache;
+
+    // incremented with every invalidation; a value read from Redis is only stored locally if no invalidation happened
+    // after the read was started
+    private final AtomicLong invalidations;
+    private final AtomicBoolean connecting;
+    private volatile RedisConnection trackingConnection;
+    private volatile long nextConnectAttempt;
+    private volatile boolean closed;
+
+    RedisNearCache(Redis redis, String keyPrefix, long maximumSize) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // the maintenance work is cheap and amortized, there is no need to submit it to the common pool
+                .executor(Runnable::run)
+                .build();
+        this.invalidations = new AtomicLong();
+        this.connecting = new AtomicBoolean();
+    }
+
+    /**
+     * @return the locally cached value, or {@code null} if there is no such value or if it was stored with a different type
+     */
+    Object get(String key, Type type) {
+        if (trackingConnection == null) {
+            connect();
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && entry.type().equals(type) ? entry.value() : null;
+    }
+
+    /**
+     * Must be called before the value is read from Redis.
+     *
+     * @return the stamp to be passed to {@link #put(String, Type, Object, long)}
+     */
+    long stamp() {
+        return invalidations.get();
+    }
+
+    void put(String key, Type type, Object value, long stamp) {
+        if (value == null || trackingConnection == null) {
+            return;
+        }
+        cache.put(key, new Entry(type, value));
+        if (invalidations.get() != stamp) {
+            // the value might have been modified while it was being read
+            cache.invalidate(key);
+        }
+    }
+
+    void invalidate(String key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Disables the tracking and closes the tracking connection. The near-cache is not used anymore.
+     */
+    void close() {
+        closed = true;
+        RedisConnection connection = trackingConnection;
+        if (connection == null) {
+            return;
+        }
+        disconnected(connection);
+        // the connection may be returned to the pool of the client, so the tracking must be disabled first
+        connection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("OFF"))
+                .onTermination().call(connection::close)
+                .subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response ignored) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.debugf(t, "Unable to close the Redis near-cache tracking connection for prefix %s", keyPrefix);
+                    }
+                });
+    }
+
+    // visible only for tests
+    boolean isTracking() {
+        return trackingConnection != null;
+    }
+
+    private void connect() {
+        if (closed || System.currentTimeMillis() < nextConnectAttempt || !connecting.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends RedisConnection>>() {
+                    @Override
+                    public Uni<RedisConnection> apply(RedisConnection connection) {
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                handle(response);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                disconnected(connection);
+                            }
+                        });
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                log.debugf(t, "Redis near-cache tracking connection failure for prefix %s", keyPrefix);
+                                disconnected(connection);
+                                connection.closeAndForget();
+                            }
+                        });
+                        return connection.send(Request.cmd(Command.CLIENT).arg("INFO"))
+                                .chain(new Function<Response, Uni<? extends RedisConnection>>() {
+                                    @Override
+                                    public Uni<RedisConnection> apply(Response info) {
+                                        if (!isResp3(info)) {
+                                            // the invalidation messages would never be received
+                                            return connection.close().replaceWith((RedisConnection) null);
+                                        }
+                                        Request tracking = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                                .arg("BCAST").arg("PREFIX").arg(keyPrefix);
+                                        return connection.send(tracking).replaceWith(connection);
+                                    }
+                                })
+                                .onFailure().call(connection::close);
+                    }
+                })
+                .subscribe().with(new Consumer<RedisConnection>() {
+                    @Override
+                    public void accept(RedisConnection connection) {
+                        if (connection == null) {
+                            log.warnf("The Redis connections do not use the RESP3 protocol, the near-cache for prefix %s "
+                                    + "is disabled", keyPrefix);
+                            closed = true;
+                            connecting.set(false);
+                            return;
+                        }
+                        // discard the values which were read before the invalidation messages could be received
+                        invalidateAll();
+                        trackingConnection = connection;
+                        connecting.set(false);
+                        if (closed) {
+                            // the near-cache was closed while connecting
+                            close();
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.warnf(t, "Unable to enable the Redis client side caching for prefix %s, the near-cache is not used",
+                                keyPrefix);
+                        nextConnectAttempt = System.currentTimeMillis() + RECONNECT_DELAY;
+                        connecting.set(false);
+                    }
+                });
+    }
+
+    /**
+     * @param info the response to {@code CLIENT INFO}, which contains the {@code resp} field since Redis 7
+     */
+    private static boolean isResp3(Response info) {
+        if (info == null) {
+            return false;
+        }
+        for (String field : info.toString().trim().split(" ")) {
+            if (field.equals("resp=3")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void disconnected(RedisConnection connection) {
+        if (trackingConnection == connection) {
+            trackingConnection = null;
+            invalidateAll();
+        }
+    }
+
+    private void handle(Response response) {
+        // RESP3 push message: ["invalidate", [key1, key2, ...]], the keys are null when the whole database was flushed
+        if (response == null || response.type() != ResponseType.PUSH || response.size() < 2
+                || !"invalidate".equalsIgnoreCase(response.get(0).toString())) {
+            return;
+        }
+        Response keys = response.get(1);
+        if (keys == null || keys.type() != ResponseType.MULTI) {
+            invalidateAll();
+        } else {
+            for (Response key : keys) {
+                invalidate(key.toString());
+            }
+        }
+    }
+
+    private record Entry(Type type, Object value) {
+    }
+}
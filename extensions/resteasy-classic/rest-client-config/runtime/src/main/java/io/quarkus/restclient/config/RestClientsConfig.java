@@ -363,6 +363,38 @@ public interface RestClientsConfig {
      */
     Optional<Boolean> alpn();
 
+    /**
+     * The maximum number of concurrent streams a REST client opens on a single HTTP/2 connection before opening another
+     * connection to the same server. When not set, the limit advertised by the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    OptionalInt http2MaxConcurrentStreams();
+
+    /**
+     * If set to false, plain text HTTP/2 connections are opened with prior knowledge (h2c) instead of upgrading an
+     * HTTP/1.1 connection. Only use it when the server is known to support HTTP/2.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigDocDefault("true")
+    Optional<Boolean> http2ClearTextUpgrade();
+
+    /**
+     * Set to true to share the HTTP client, and hence its per-server connection pools, between all the REST clients.
+     * The clients configured with a different {@code name}, or with different HTTP client options such as the TLS,
+     * proxy, timeout, pool or HTTP/2 settings, get their own shared HTTP client.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Boolean> shared();
+
     /**
      * If {@code true}, the stacktrace of the invocation of the REST Client method is captured.
      * This stacktrace will be used if the invocation throws an exception
@@ -772,6 +804,23 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> alpn();
 
+        /**
+         * The maximum number of concurrent streams this client opens on a single HTTP/2 connection before opening another
+         * connection to the same server. When not set, the limit advertised by the server is used.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        OptionalInt http2MaxConcurrentStreams();
+
+        /**
+         * If set to false, plain text HTTP/2 connections are opened with prior knowledge (h2c) instead of upgrading an
+         * HTTP/1.1 connection. Only use it when the server is known to support HTTP/2.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("true")
+        Optional<Boolean> http2ClearTextUpgrade();
+
         /**
          * If {@code true}, the stacktrace of the invocation of the REST Client method is captured.
          * This stacktrace will be used if the invocation throws an exception
@@ -9,6 +9,7 @@
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAMS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAM;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAMS;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.COALESCE;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_CLIENT_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PARAMETERS_PROP;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PROP;
@@ -53,6 +54,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.ClientMultipartForm;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
@@ -521,6 +523,7 @@ public void forMethod(ClassCreator classCreator, MethodCreator constructor,
             BuildProducer<GeneratedClassBuildItem> generatedClasses, int methodIndex, FieldDescriptor javaMethodField) {
 
         addJavaMethodToContext(javaMethodField, methodCreator, invocationBuilder);
+        addCoalesceHeadersToContext(interfaceClass, method, methodCreator, invocationBuilder, index);
 
         // header filler
 
@@ -734,6 +737,33 @@ private void addJavaMethodToContext(FieldDescriptor javaMethodField, MethodCreat
                         methodCreator.load(INVOKED_METHOD_PROP), javaMethodAsObject));
     }
 
+    private void addCoalesceHeadersToContext(ClassInfo interfaceClass, MethodInfo method, MethodCreator methodCreator,
+            AssignableResultHandle invocationBuilder, IndexView index) {
+        boolean get = method.hasDeclaredAnnotation(ResteasyReactiveDotNames.GET);
+        AnnotationInstance coalesce = method.declaredAnnotation(COALESCE);
+        if (coalesce != null) {
+            if (!get) {
+                throw new RestClientDefinitionException("@Coalesce can only be used on GET methods, but "
+                        + interfaceClass.name() + "#" + method.name() + " is not one");
+            }
+        } else if (get) {
+            coalesce = interfaceClass.declaredAnnotation(COALESCE);
+        }
+        if (coalesce == null) {
+            return;
+        }
+
+        String[] headers = coalesce.valueWithDefault(index, "headers").asStringArray();
+        ResultHandle headersArray = methodCreator.newArray(String.class, headers.length);
+        for (int i = 0; i < headers.length; i++) {
+            methodCreator.writeArrayValue(headersArray, i, methodCreator.load(headers[i]));
+        }
+        methodCreator.assign(invocationBuilder,
+                methodCreator.invokeInterfaceMethod(INVOCATION_BUILDER_PROPERTY_METHOD, invocationBuilder,
+                        methodCreator.load(QuarkusRestClientProperties.COALESCE_HEADERS),
+                        methodCreator.invokeStaticMethod(ARRAYS_AS_LIST, headersArray)));
+    }
+
     private void putAllHeaderAnnotations(Map<String, ParamData> headerMap, ClassInfo interfaceClass,
             AnnotationInstance[] annotations) {
         for (AnnotationInstance annotation : annotations) {
@@ -0,0 +1,151 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class CoalesceTest {
+
+    private static final int CALLS = 10;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(Client.class, SlowResource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    Client client;
+
+    @BeforeEach
+    void setUp() {
+        SlowResource.HITS.set(0);
+        client = QuarkusRestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+    }
+
+    @Test
+    void shouldSendIdenticalCallsOnce() {
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            calls.add(client.coalesced("a", "token"));
+        }
+
+        List<String> results = Uni.join().all(calls).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(CALLS).containsOnly("a:token");
+        assertThat(SlowResource.HITS).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCoalesceCallsWithDifferentHeaders() {
+        List<String> results = Uni.join().all(client.coalesced("a", "first"), client.coalesced("a", "second"))
+                .andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsExactly("a:first", "a:second");
+        assertThat(SlowResource.HITS).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCoalesceCallsWithDifferentUris() {
+        List<String> results = Uni.join().all(client.coalesced("a", "token"), client.coalesced("b", "token"))
+                .andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsExactly("a:token", "b:token");
+        assertThat(SlowResource.HITS).hasValue(2);
+    }
+
+    @Test
+    void shouldSendEachCallWithoutAnnotation() {
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            calls.add(client.notCoalesced("a", "token"));
+        }
+
+        Uni.join().all(calls).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(SlowResource.HITS).hasValue(CALLS);
+    }
+
+    @Test
+    void shouldSendNextCallOnceTheResponseIsReceived() {
+        assertThat(client.coalesced("a", "token").await().atMost(Duration.ofSeconds(10))).isEqualTo("a:token");
+        assertThat(client.coalesced("a", "token").await().atMost(Duration.ofSeconds(10))).isEqualTo("a:token");
+
+        assertThat(SlowResource.HITS).hasValue(2);
+    }
+
+    @Test
+    void shouldSendWaitingCallsWhenTheFirstIsCancelled() {
+        Uni<String> first = client.coalesced("a", "token").ifNoItem().after(Duration.ofMillis(100)).fail()
+                .onFailure().recoverWithItem("cancelled");
+        Uni<String> second = client.coalesced("a", "token");
+
+        List<String> results = Uni.join().all(first, second).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsExactly("cancelled", "a:token");
+        assertThat(SlowResource.HITS).hasValue(2);
+    }
+
+    @Test
+    void shouldNotFailOtherCallsWhenAWaitingCallIsCancelled() {
+        Uni<String> first = client.coalesced("a", "token");
+        Uni<String> second = client.coalesced("a", "token").ifNoItem().after(Duration.ofMillis(100)).fail()
+                .onFailure().recoverWithItem("cancelled");
+        Uni<String> third = client.coalesced("a", "token");
+
+        List<String> results = Uni.join().all(first, second, third).andFailFast().await()
+                .atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsExactly("a:token", "cancelled", "a:token");
+        assertThat(SlowResource.HITS).hasValue(1);
+    }
+
+    @Path("/slow")
+    public interface Client {
+
+        @GET
+        @Coalesce
+        Uni<String> coalesced(@QueryParam("id") String id, @HeaderParam("Authorization") String authorization);
+
+        @GET
+        Uni<String> notCoalesced(@QueryParam("id") String id, @HeaderParam("Authorization") String authorization);
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+
+        static final AtomicInteger HITS = new AtomicInteger();
+
+        @Inject
+        Vertx vertx;
+
+        @GET
+        public Uni<String> get(@QueryParam("id") String id, @HeaderParam("Authorization") String authorization) {
+            HITS.incrementAndGet();
+            return Uni.createFrom().emitter(emitter -> vertx.setTimer(500,
+                    val -> emitter.complete(id + ":" + authorization)));
+        }
+    }
+}
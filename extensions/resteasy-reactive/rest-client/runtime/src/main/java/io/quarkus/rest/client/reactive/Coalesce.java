@@ -0,0 +1,47 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+/**
+ * Used to coalesce the identical {@code GET} calls made concurrently: while a call is in flight, the identical calls wait
+ * for its response instead of sending their own request, and then read their own copy of the response.
+ * <p>
+ *
+ * An example method could look like the following:
+ *
+ * <pre>
+ * {@code
+ * public interface PriceClient {
+ *
+ *     &#64;GET
+ *     &#64;Path("/prices/{id}")
+ *     &#64;Coalesce
+ *     Price get(@PathParam("id") String id);
+ * }
+ * }
+ * </pre>
+ *
+ * Two calls are identical when they are sent to the same URI with the same values for the {@link #headers()}, which are
+ * compared after the client filters have run. When placed on the interface, all its {@code GET} methods are coalesced.
+ * <p>
+ * Only the responses that are fully read in memory are shared, so the methods returning an {@code InputStream}, a
+ * {@code File} or a {@code Response} synchronously are never coalesced.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+    /**
+     * The request headers that, along with the URI, identify a call. Any header that can change the response must be
+     * listed, otherwise a caller may get the response to a request sent on behalf of another caller.
+     */
+    String[] headers() default { HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.AUTHORIZATION,
+            HttpHeaders.COOKIE };
+}
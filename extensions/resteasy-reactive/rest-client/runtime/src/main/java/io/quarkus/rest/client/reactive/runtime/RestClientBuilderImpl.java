@@ -714,6 +714,18 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             }
         }
 
+        if (!clientBuilder.getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS)
+                && restClients.http2MaxConcurrentStreams().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                    restClients.http2MaxConcurrentStreams().getAsInt());
+        }
+
+        if (!clientBuilder.getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE)
+                && restClients.http2ClearTextUpgrade().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE,
+                    restClients.http2ClearTextUpgrade().get());
+        }
+
         ClientImpl clientImpl = clientBuilder.build();
         TlsConfig tlsConfig = clientBuilder.getTlsConfig();
         if (tlsConfig != null && tlsConfig.getName().isPresent()) {
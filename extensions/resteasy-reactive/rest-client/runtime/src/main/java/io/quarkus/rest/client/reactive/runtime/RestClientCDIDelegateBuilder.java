@@ -37,6 +37,7 @@
 import io.quarkus.restclient.config.RestClientsConfig;
 import io.quarkus.restclient.config.RestClientsConfig.RestClientConfig;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.smallrye.config.SmallRyeConfig;
@@ -180,6 +181,18 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
         }
 
+        OptionalInt http2MaxConcurrentStreams = oneOf(restClientConfig.http2MaxConcurrentStreams(),
+                configRoot.http2MaxConcurrentStreams());
+        if (http2MaxConcurrentStreams.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, http2MaxConcurrentStreams.getAsInt());
+        }
+
+        Optional<Boolean> http2ClearTextUpgrade = oneOf(restClientConfig.http2ClearTextUpgrade(),
+                configRoot.http2ClearTextUpgrade());
+        if (http2ClearTextUpgrade.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, http2ClearTextUpgrade.get());
+        }
+
         Boolean captureStacktrace = oneOf(restClientConfig.captureStacktrace()).orElse(configRoot.captureStacktrace());
         builder.property(QuarkusRestClientProperties.CAPTURE_STACKTRACE, captureStacktrace);
 
@@ -249,7 +262,7 @@ private void configureRedirects(QuarkusRestClientBuilder builder) {
     }
 
     private void configureShared(QuarkusRestClientBuilder builder) {
-        Optional<Boolean> shared = restClientConfig.shared();
+        Optional<Boolean> shared = oneOf(restClientConfig.shared(), configRoot.shared());
         if (shared.isPresent()) {
             builder.property(QuarkusRestClientProperties.SHARED, shared.get());
 
@@ -258,11 +271,60 @@ private void configureShared(QuarkusRestClientBuilder builder) {
                 Optional<String> name = restClientConfig.name();
                 if (name.isPresent()) {
                     builder.property(QuarkusRestClientProperties.NAME, name.get());
+                } else if (restClientConfig.shared().isEmpty()) {
+                    // shared by the global flag: the shared HTTP client is created with the options of the first client
+                    // using it, so only the clients with the same options may use the same one
+                    builder.property(QuarkusRestClientProperties.NAME, defaultSharedName());
                 }
             }
         }
     }
 
+    /**
+     * @return the name of the shared HTTP client of the clients which have the same HTTP client options as this one
+     */
+    private String defaultSharedName() {
+        StringBuilder options = new StringBuilder();
+        appendOption(options, oneOf(restClientConfig.tlsConfigurationName(), configRoot.tlsConfigurationName()));
+        appendOption(options, oneOf(restClientConfig.trustStore(), configRoot.trustStore()));
+        appendOption(options, oneOf(restClientConfig.trustStorePassword(), configRoot.trustStorePassword()));
+        appendOption(options, oneOf(restClientConfig.trustStoreType(), configRoot.trustStoreType()));
+        appendOption(options, oneOf(restClientConfig.keyStore(), configRoot.keyStore()));
+        appendOption(options, oneOf(restClientConfig.keyStorePassword(), configRoot.keyStorePassword()));
+        appendOption(options, oneOf(restClientConfig.keyStoreType(), configRoot.keyStoreType()));
+        appendOption(options, oneOf(restClientConfig.verifyHost(), configRoot.verifyHost()));
+        appendOption(options, oneOf(restClientConfig.hostnameVerifier(), configRoot.hostnameVerifier()));
+        appendOption(options, oneOf(restClientConfig.proxyAddress(), configRoot.proxyAddress()));
+        appendOption(options, oneOf(restClientConfig.proxyUser(), configRoot.proxyUser()));
+        appendOption(options, oneOf(restClientConfig.proxyPassword(), configRoot.proxyPassword()));
+        appendOption(options, oneOf(restClientConfig.nonProxyHosts(), configRoot.nonProxyHosts()));
+        appendOption(options, oneOf(restClientConfig.proxyConnectTimeout(), configRoot.proxyConnectTimeout()));
+        appendOption(options, restClientConfig.proxyConfigurationName().or(() -> configRoot.proxyConfigurationName()));
+        appendOption(options, restClientConfig.connectTimeout().orElse(configRoot.connectTimeout()));
+        appendOption(options, oneOf(restClientConfig.connectionTTL(), configRoot.connectionTTL()));
+        appendOption(options, oneOf(restClientConfig.connectionPoolSize(), configRoot.connectionPoolSize()));
+        appendOption(options, oneOf(restClientConfig.keepAliveEnabled(), configRoot.keepAliveEnabled()));
+        appendOption(options, restClientConfig.http2().orElse(configRoot.http2()));
+        appendOption(options, restClientConfig.http3().orElse(configRoot.http3()));
+        appendOption(options, oneOf(restClientConfig.alpn(), configRoot.alpn()));
+        appendOption(options, oneOf(restClientConfig.http2UpgradeMaxContentLength(),
+                configRoot.http2UpgradeMaxContentLength()));
+        appendOption(options, oneOf(restClientConfig.http2MaxConcurrentStreams(), configRoot.http2MaxConcurrentStreams()));
+        appendOption(options, oneOf(restClientConfig.http2ClearTextUpgrade(), configRoot.http2ClearTextUpgrade()));
+        appendOption(options, oneOf(restClientConfig.maxChunkSize(), configRoot.maxChunkSize()));
+        appendOption(options, restClientConfig.enableResponseDecompression());
+        // the options may contain passwords, they are hashed so that they do not appear in the name
+        return "rest-client-shared-" + HashUtil.sha256(options.toString()).substring(0, 16);
+    }
+
+    private static void appendOption(StringBuilder options, Object value) {
+        options.append(value).append('\0');
+    }
+
+    private boolean isShared() {
+        return oneOf(restClientConfig.shared(), configRoot.shared()).orElse(false);
+    }
+
     private void configureTLS(QuarkusRestClientBuilder builder) {
         Optional<TlsConfiguration> maybeConfiguration = resolveTlsConfigurationForRegistry();
         if (maybeConfiguration.isPresent()) {
@@ -462,7 +524,10 @@ private void configureClientOptionsCustomizer(QuarkusRestClientBuilder builder)
             public void accept(HttpClientOptions httpClientOptions) {
                 String metricsName = httpClientOptions.getMetricsName();
                 if (metricsName == null || metricsName.isEmpty()) {
-                    httpClientOptions.setMetricsName("rest-client|" + configKey);
+                    // the connections of a shared client are reported under its name, whichever client created it
+                    httpClientOptions.setMetricsName("rest-client|" + (isShared()
+                            ? restClientConfig.name().orElse(HttpClientOptions.DEFAULT_NAME)
+                            : configKey));
                 }
             }
         });
@@ -6,6 +6,8 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.DISABLE_CONTEXTUAL_ERROR_MESSAGES;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_CHUNK_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
@@ -13,6 +15,7 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.STATIC_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder.EncoderMode.HTML5;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +42,7 @@
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import io.quarkus.restclient.config.AbstractRestClientConfigBuilder;
@@ -145,6 +149,8 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, false);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 104);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HTTP2_MAX_CONCURRENT_STREAMS, 105);
+        verify(restClientBuilderMock).property(HTTP2_CLEAR_TEXT_UPGRADE, true);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter1.class);
         verify(restClientBuilderMock).queryParamStyle(COMMA_SEPARATED);
@@ -200,6 +206,9 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, true);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 204);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
+        verify(restClientBuilderMock).property(HTTP2_MAX_CONCURRENT_STREAMS, 205);
+        verify(restClientBuilderMock).property(HTTP2_CLEAR_TEXT_UPGRADE, false);
+        verify(restClientBuilderMock).property(QuarkusRestClientProperties.SHARED, true);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter2.class);
         verify(restClientBuilderMock).queryParamStyle(MULTI_PAIRS);
@@ -208,6 +217,57 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).keyStore(Mockito.any(), Mockito.anyString());
     }
 
+    @Test
+    void globalSharedClientNameDependsOnOptions() {
+        Map<String, String> config = createSampleConfigRoot();
+        String name = sharedName(config);
+        assertTrue(name.startsWith("rest-client-shared-"));
+        // the clients with the same options share the same HTTP client
+        assertEquals(name, sharedName(config));
+
+        Map<String, String> otherProxy = new HashMap<>(config);
+        otherProxy.put("quarkus.rest-client.test-client.proxy-address", "host3:123");
+        assertNotEquals(name, sharedName(otherProxy));
+
+        Map<String, String> otherTls = new HashMap<>(config);
+        otherTls.put("quarkus.rest-client.test-client.tls-configuration-name", "other");
+        assertNotEquals(name, sharedName(otherTls));
+
+        Map<String, String> otherTimeout = new HashMap<>(config);
+        otherTimeout.put("quarkus.rest-client.test-client.connect-timeout", "300");
+        assertNotEquals(name, sharedName(otherTimeout));
+    }
+
+    private static String sharedName(Map<String, String> config) {
+        RestClientsConfig configRoot = ConfigUtils.emptyConfigBuilder()
+                .setAddDefaultSources(false)
+                .withMapping(RestClientsConfig.class)
+                .withCustomizers(new SmallRyeConfigBuilderCustomizer() {
+                    @Override
+                    public void configBuilder(final SmallRyeConfigBuilder builder) {
+                        new AbstractRestClientConfigBuilder() {
+                            @Override
+                            public List<RegisteredRestClient> getRestClients() {
+                                return List.of(new RegisteredRestClient(TestClient.class, "test-client"));
+                            }
+                        }.configBuilder(builder);
+                    }
+                })
+                .withDefaultValues(config)
+                .build()
+                .getConfigMapping(RestClientsConfig.class);
+
+        QuarkusRestClientBuilderImpl restClientBuilderMock = Mockito.mock(QuarkusRestClientBuilderImpl.class);
+        new RestClientCDIDelegateBuilder<>(TestClient.class,
+                "http://localhost:8080",
+                "test-client",
+                configRoot).configureBuilder(restClientBuilderMock);
+
+        ArgumentCaptor<Object> name = ArgumentCaptor.forClass(Object.class);
+        verify(restClientBuilderMock).property(Mockito.eq(QuarkusRestClientProperties.NAME), name.capture());
+        return (String) name.getValue();
+    }
+
     private static Map<String, String> createSampleConfigRoot() {
         Map<String, String> rootConfig = new HashMap<>();
         // global properties:
@@ -230,6 +290,9 @@ private static Map<String, String> createSampleConfigRoot() {
         rootConfig.put("quarkus.rest-client.multipart-max-chunk-size", "1024");
         rootConfig.put("quarkus.rest-client.follow-redirects", "true");
         rootConfig.put("quarkus.rest-client.max-chunk-size", "1024");
+        rootConfig.put("quarkus.rest-client.http2-max-concurrent-streams", "205");
+        rootConfig.put("quarkus.rest-client.http2-clear-text-upgrade", "false");
+        rootConfig.put("quarkus.rest-client.shared", "true");
         rootConfig.put("quarkus.rest-client.providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter2");
         rootConfig.put("quarkus.rest-client.query-param-style", "multi-pairs");
@@ -265,6 +328,8 @@ private static Map<String, String> createSampleClientConfig(final String restCli
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-redirects", "104");
         clientConfig.put("quarkus.rest-client." + restClientName + ".follow-redirects", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-chunk-size", "1024");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".http2-max-concurrent-streams", "105");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".http2-clear-text-upgrade", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".providers",
                 "io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter1");
         clientConfig.put("quarkus.rest-client." + restClientName + ".query-param-style", "comma-separated");
@@ -19,6 +19,8 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
@@ -30,6 +32,8 @@
 import org.jboss.jandex.VoidType;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
@@ -157,8 +161,10 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * The instance is created through the public constructor annotated with {@code @JsonCreator}, the canonical constructor
+ * of a record or the empty constructor, in this order. The values of the constructor parameters are looked up in the JSON
+ * object by property name, and the other properties are then set as described above. The generation of this deserializer
+ * is skipped for a class without any of these constructors, or whose creator is a delegating one.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -1017,7 +1023,33 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        if (!super.shouldGenerateCodeFor(classInfo)) {
+            return false;
+        }
+        if (classInfo.hasNoArgsConstructor()) {
+            return true;
+        }
+        // otherwise the instance can only be created through a constructor taking the properties as parameters
+        Optional<MethodInfo> ctor = findConstructor(classInfo);
+        return ctor.isPresent() && (classInfo.isRecord() || ctor.get().hasDeclaredAnnotation(JsonCreator.class))
+                && isPropertiesCreator(ctor.get(), classInfo.isRecord());
+    }
+
+    private static boolean isPropertiesCreator(MethodInfo ctor, boolean record) {
+        AnnotationInstance jsonCreator = ctor.declaredAnnotation(JsonCreator.class);
+        AnnotationValue mode = jsonCreator != null ? jsonCreator.value("mode") : null;
+        if (mode != null && mode.asEnum().equals("DELEGATING")) {
+            return false;
+        }
+        for (MethodParameterInfo param : ctor.parameters()) {
+            if (param.name() == null) {
+                // the parameter names are not available, so the properties cannot be matched with the parameters
+                return false;
+            }
+        }
+        // Jackson binds the only parameter of a creator without @JsonProperty as a delegate, except for records
+        return record || ctor.parametersCount() != 1 || (mode != null && mode.asEnum().equals("PROPERTIES"))
+                || ctor.parameters().get(0).hasDeclaredAnnotation(JsonProperty.class);
     }
 
     private static final String TRANSLATABLE_FIELD_NAMES = "TRANSLATABLE_FIELD_NAMES";
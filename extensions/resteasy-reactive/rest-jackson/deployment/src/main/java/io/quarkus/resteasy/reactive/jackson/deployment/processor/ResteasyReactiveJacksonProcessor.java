@@ -412,7 +412,7 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
 
         for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
             MethodInfo methodInfo = entry.getMethodInfo();
-            ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), indexView,
+            ClassInfo effectiveReturnClassInfo = getGeneratedCodeClassInfo(methodInfo.returnType(), indexView,
                     additionalUnwrapTypes);
             if (effectiveReturnClassInfo != null && !effectiveReturnClassInfo.isEnum()) {
                 serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
@@ -421,7 +421,8 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             if (methodInfo.hasAnnotation(POST.class) || methodInfo.hasAnnotation(PUT.class)
                     || methodInfo.hasAnnotation(PATCH.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
-                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView, additionalUnwrapTypes);
+                    ClassInfo effectiveParamClassInfo = getGeneratedCodeClassInfo(paramType, indexView,
+                            additionalUnwrapTypes);
                     if (effectiveParamClassInfo != null) {
                         deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
                     }
@@ -548,6 +549,33 @@ private static ClassInfo getEffectiveClassInfo(Type type, IndexView indexView, S
         return effectiveReturnType == null ? null : indexView.getClassByName(effectiveReturnType.name());
     }
 
+    /**
+     * Unwraps the async types, the collections, the maps and the arrays, including the nested ones, to find the class
+     * the reflection-free serializer or deserializer has to be generated for, e.g. {@code Item} for
+     * {@code Uni<Map<String, List<Item[]>>>}.
+     */
+    private static ClassInfo getGeneratedCodeClassInfo(Type type, IndexView indexView, Set<DotName> additionalUnwrapTypes) {
+        if (type.kind() == Type.Kind.VOID) {
+            return null;
+        }
+        Type effectiveType = getEffectiveType(type, additionalUnwrapTypes);
+        while (effectiveType != null) {
+            if (effectiveType.kind() == Type.Kind.ARRAY) {
+                effectiveType = effectiveType.asArrayType().constituent();
+            } else if (isContainerType(effectiveType.name())) {
+                effectiveType = getEffectiveType(effectiveType, Set.of());
+            } else {
+                break;
+            }
+        }
+        return effectiveType == null ? null : indexView.getClassByName(effectiveType.name());
+    }
+
+    private static boolean isContainerType(DotName name) {
+        return name.equals(ResteasyReactiveDotNames.SET) || name.equals(ResteasyReactiveDotNames.COLLECTION)
+                || name.equals(ResteasyReactiveDotNames.LIST) || name.equals(ResteasyReactiveDotNames.MAP);
+    }
+
     private static Type getEffectiveType(Type type, Set<DotName> additionalUnwrapTypes) {
         Type effectiveReturnType = type;
         if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
@@ -0,0 +1,108 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ReflectionFreeContainerDeserializerTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class, Line.class);
+                }
+            });
+
+    @Test
+    public void nestedCollections() {
+        given().contentType("application/json")
+                .body("[[{\"name\":\"a\",\"quantity\":1}],[{\"name\":\"b\",\"quantity\":2},{\"name\":\"c\",\"quantity\":3}]]")
+                .post("/lines/nested")
+                .then()
+                .statusCode(200)
+                .body(is("3:6:true"));
+    }
+
+    @Test
+    public void array() {
+        given().contentType("application/json")
+                .body("[{\"name\":\"a\",\"quantity\":1},{\"name\":\"b\",\"quantity\":2}]")
+                .post("/lines/array")
+                .then()
+                .statusCode(200)
+                .body(is("2:3:true"));
+    }
+
+    @Test
+    public void mapOfCollections() {
+        given().contentType("application/json")
+                .body("{\"first\":[{\"name\":\"a\",\"quantity\":4}],\"second\":[]}")
+                .post("/lines/map")
+                .then()
+                .statusCode(200)
+                .body(is("1:4:true"));
+    }
+
+    @Path("/lines")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class TestResource {
+
+        @POST
+        @Path("nested")
+        public String nested(List<List<Line>> lines) {
+            return summary(lines.stream().flatMap(Collection::stream).collect(Collectors.toList()));
+        }
+
+        @POST
+        @Path("array")
+        public String array(Line[] lines) {
+            return summary(List.of(lines));
+        }
+
+        @POST
+        @Path("map")
+        public String map(Map<String, List<Line>> lines) {
+            return summary(lines.values().stream().flatMap(Collection::stream).collect(Collectors.toList()));
+        }
+
+        private static String summary(List<Line> lines) {
+            int quantity = 0;
+            boolean generated = true;
+            for (Line line : lines) {
+                quantity += line.quantity();
+                generated &= line.stackTrace().stream().anyMatch(s -> s.contains("$quarkusjacksondeserializer.deserialize"));
+            }
+            return lines.size() + ":" + quantity + ":" + generated;
+        }
+    }
+
+    public record Line(String name, int quantity, List<String> stackTrace) {
+
+        public Line {
+            stackTrace = StackWalker.getInstance()
+                    .walk(frames -> frames.limit(15)
+                            .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                            .collect(Collectors.toList()));
+        }
+    }
+}
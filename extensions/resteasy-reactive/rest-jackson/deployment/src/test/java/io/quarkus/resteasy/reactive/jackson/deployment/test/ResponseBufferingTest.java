@@ -0,0 +1,102 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class ResponseBufferingTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(ItemsResource.class, Item.class);
+                }
+            });
+
+    @Test
+    public void smallBlocking() {
+        assertBuffered("/items/blocking");
+    }
+
+    @Test
+    public void smallNonBlocking() {
+        assertBuffered("/items/nonBlocking");
+    }
+
+    @Test
+    public void largerThanOutputBufferBlocking() {
+        assertStreamed("/items/blocking");
+    }
+
+    @Test
+    public void largerThanOutputBufferNonBlocking() {
+        assertStreamed("/items/nonBlocking");
+    }
+
+    private static void assertBuffered(String path) {
+        String body = RestAssured.get(path + "?count=3").then().statusCode(200)
+                .body("$", hasSize(3))
+                .body("[2].name", equalTo("item-2"))
+                .extract().asString();
+        RestAssured.get(path + "?count=3").then().header("Content-Length", String.valueOf(body.length()));
+        RestAssured.get(path + "?count=0").then().statusCode(200).body(equalTo("[]"))
+                .header("Content-Length", "2");
+    }
+
+    private static void assertStreamed(String path) {
+        RestAssured.get(path + "?count=5000").then().statusCode(200)
+                .header("Content-Length", nullValue())
+                .body("$", hasSize(5000))
+                .body("[0].name", equalTo("item-0"))
+                .body("[4999].name", equalTo("item-4999"));
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @GET
+        @Blocking
+        @Path("blocking")
+        public List<Item> blocking(@QueryParam("count") int count) {
+            return items(count);
+        }
+
+        @GET
+        @NonBlocking
+        @Path("nonBlocking")
+        public List<Item> nonBlocking(@QueryParam("count") int count) {
+            return items(count);
+        }
+
+        private static List<Item> items(int count) {
+            List<Item> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Item item = new Item();
+                item.setName("item-" + i);
+                items.add(item);
+            }
+            return items;
+        }
+    }
+}
@@ -7,6 +7,8 @@
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
@@ -19,6 +21,7 @@
 import org.jboss.resteasy.reactive.RestMulti;
 import org.jboss.resteasy.reactive.RestStreamElementType;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.server.Streamed;
 
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.mutiny.Multi;
@@ -237,6 +240,53 @@ public Multi<Message> multiStreamJsonFast() {
                 .onOverflow().buffer(81920)).header("foo", "bar").build();
     }
 
+    @Path("json/stream")
+    @GET
+    @Streamed
+    @Produces(MediaType.APPLICATION_JSON)
+    public Stream<Message> streamJson() {
+        return Stream.of(new Message("hello"), new Message("stef"));
+    }
+
+    @Path("json/stream/large")
+    @GET
+    @Streamed
+    @Produces(MediaType.APPLICATION_JSON)
+    public Stream<Message> largeStreamJson() {
+        return IntStream.range(0, 50_000).mapToObj(i -> new Message("message-" + i));
+    }
+
+    @Path("json/stream/empty")
+    @GET
+    @Streamed
+    @Produces(MediaType.APPLICATION_JSON)
+    public Stream<Message> emptyStreamJson() {
+        return Stream.empty();
+    }
+
+    @Path("json/iterable")
+    @GET
+    @Streamed
+    @Produces(MediaType.APPLICATION_JSON)
+    public Iterable<Message> iterableJson() {
+        return List.of(new Message("hello"), new Message("stef"));
+    }
+
+    @Path("ndjson/stream")
+    @GET
+    @Streamed
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    public Stream<Message> streamNdJson() {
+        return Stream.of(new Message("hello"), new Message("stef"));
+    }
+
+    @Path("json/iterable/buffered")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Iterable<Message> bufferedIterableJson() {
+        return List.of(new Message("hello"), new Message("stef"));
+    }
+
     private static final class Wrapper {
         public final Multi<Message> data;
 
@@ -201,6 +201,48 @@ private void testJsonMulti(String path) {
         assertThat(list).extracting("name").containsExactly("hello", "stef");
     }
 
+    @Test
+    public void testJsonStream() {
+        testJsonMulti("streams/json/stream");
+        testJsonMulti("streams/json/iterable");
+        when().get(uri.toString() + "streams/json/stream")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(is("[{\"name\":\"hello\"},{\"name\":\"stef\"}]"))
+                .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON));
+        when().get(uri.toString() + "streams/json/stream/empty")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testBufferedIterable() {
+        // without @Streamed, the result is serialized as a single entity
+        when().get(uri.toString() + "streams/json/iterable/buffered")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(is("[{\"name\":\"hello\"},{\"name\":\"stef\"}]"))
+                .header(HttpHeaders.CONTENT_LENGTH, "34");
+    }
+
+    @Test
+    public void testLargeJsonStream() {
+        when().get(uri.toString() + "streams/json/stream/large")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body("size()", equalTo(50_000))
+                .body("[0].name", equalTo("message-0"))
+                .body("[49999].name", equalTo("message-49999"));
+    }
+
+    @Test
+    public void testNdJsonStream() {
+        when().get(uri.toString() + "streams/ndjson/stream")
+                .then().statusCode(HttpStatus.SC_OK)
+                // @formatter:off
+                .body(is("{\"name\":\"hello\"}\n"
+                            + "{\"name\":\"stef\"}\n"))
+                // @formatter:on
+                .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_NDJSON));
+    }
+
     /**
      * Reproduce <a href="https://github.com/quarkusio/quarkus/issues/30044">#30044</a>.
      */
@@ -12,6 +12,7 @@
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.reactive.common.providers.serialisers.AbstractJsonMessageBodyReader;
+import org.jboss.resteasy.reactive.common.util.ByteArrayBodyInputStream;
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -53,7 +54,19 @@ private Object doReadFrom(Class<Object> type, Type genericType, InputStream enti
             return null;
         }
         ObjectReader reader = getEffectiveReader();
-        return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                .readValue(entityStream);
+        return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                entityStream);
+    }
+
+    /**
+     * Parses the request body in place when it has been fully buffered, instead of copying it through the stream.
+     */
+    protected static Object readValue(ObjectReader reader, InputStream entityStream) throws IOException {
+        if (entityStream instanceof ByteArrayBodyInputStream body) {
+            Object value = reader.readValue(body.array(), body.position(), body.remaining());
+            body.consume();
+            return value;
+        }
+        return reader.readValue(entityStream);
     }
 }
@@ -78,11 +78,16 @@ public ObjectWriter apply(JavaType type) {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
-        if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
-            stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
-        } else {
-            getWriter(genericType, o).writeValue(stream, o);
+        OutputStream stream = PooledByteBufOutputStream.create(context);
+        try {
+            if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+                stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
+            } else {
+                getWriter(genericType, o).writeValue(stream, o);
+            }
+        } catch (Throwable t) {
+            PooledByteBufOutputStream.discard(stream);
+            throw t;
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
@@ -117,8 +117,8 @@ private Object doReadFrom(Class<Object> type, Type genericType, MediaType respon
         }
         try {
             ObjectReader reader = getEffectiveReader(type, genericType, responseMediaType);
-            return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                    .readValue(entityStream);
+            return readValue(reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                    entityStream);
         } catch (MismatchedInputException e) {
             if (isEmptyInputException(e)) {
                 return null;
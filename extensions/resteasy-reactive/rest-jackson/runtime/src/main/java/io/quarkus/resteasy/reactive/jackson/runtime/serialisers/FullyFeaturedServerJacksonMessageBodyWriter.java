@@ -68,42 +68,49 @@ public ObjectWriter get() {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
-        if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
-            stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
-        } else {
-            ObjectMapper effectiveMapper = getEffectiveMapper(o, context);
-            ObjectWriter effectiveWriter = getEffectiveWriter(effectiveMapper);
-            ResteasyReactiveResourceInfo resourceInfo = context.getResteasyReactiveResourceInfo();
-            if (resourceInfo != null) {
-                ObjectWriter writerFromAnnotation = getObjectWriterFromAnnotations(resourceInfo, genericType, effectiveMapper);
-                if (writerFromAnnotation != null) {
-                    effectiveWriter = writerFromAnnotation;
-                }
+        OutputStream stream = PooledByteBufOutputStream.create(context);
+        try {
+            if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+                stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
+            } else {
+                ObjectMapper effectiveMapper = getEffectiveMapper(o, context);
+                ObjectWriter effectiveWriter = getEffectiveWriter(effectiveMapper);
+                ResteasyReactiveResourceInfo resourceInfo = context.getResteasyReactiveResourceInfo();
+                if (resourceInfo != null) {
+                    ObjectWriter writerFromAnnotation = getObjectWriterFromAnnotations(resourceInfo, genericType,
+                            effectiveMapper);
+                    if (writerFromAnnotation != null) {
+                        effectiveWriter = writerFromAnnotation;
+                    }
 
-                Class<?> jsonViewValue = ResteasyReactiveServerJacksonRecorder.jsonViewForMethod(resourceInfo.getMethodId());
-                if (jsonViewValue != null) {
-                    effectiveWriter = effectiveWriter.withView(jsonViewValue);
-                } else {
-                    jsonViewValue = ResteasyReactiveServerJacksonRecorder
-                            .jsonViewForClass(resourceInfo.getResourceClass());
+                    Class<?> jsonViewValue = ResteasyReactiveServerJacksonRecorder
+                            .jsonViewForMethod(resourceInfo.getMethodId());
                     if (jsonViewValue != null) {
                         effectiveWriter = effectiveWriter.withView(jsonViewValue);
-                    }
+                    } else {
+                        jsonViewValue = ResteasyReactiveServerJacksonRecorder
+                                .jsonViewForClass(resourceInfo.getResourceClass());
+                        if (jsonViewValue != null) {
+                            effectiveWriter = effectiveWriter.withView(jsonViewValue);
+                        }
 
+                    }
                 }
-            }
-            // make sure we properly handle polymorphism in generic collections
-            if (genericType != null && o != null) {
-                JavaType rootType = JacksonMapperUtil.getGenericRootType(genericType, effectiveWriter);
-                // Check that the determined root type is really assignable from the given entity.
-                // A mismatch can happen, if a ServerResponseFilter replaces the response entity with another object
-                // that does not match the original signature of the method (see HalServerResponseFilter for an example)
-                if (rootType != null && rootType.isTypeOrSuperTypeOf(o.getClass())) {
-                    effectiveWriter = effectiveWriter.forType(rootType);
+                // make sure we properly handle polymorphism in generic collections
+                if (genericType != null && o != null) {
+                    JavaType rootType = JacksonMapperUtil.getGenericRootType(genericType, effectiveWriter);
+                    // Check that the determined root type is really assignable from the given entity.
+                    // A mismatch can happen, if a ServerResponseFilter replaces the response entity with another object
+                    // that does not match the original signature of the method (see HalServerResponseFilter for an example)
+                    if (rootType != null && rootType.isTypeOrSuperTypeOf(o.getClass())) {
+                        effectiveWriter = effectiveWriter.forType(rootType);
+                    }
                 }
+                effectiveWriter.writeValue(stream, o);
             }
-            effectiveWriter.writeValue(stream, o);
+        } catch (Throwable t) {
+            PooledByteBufOutputStream.discard(stream);
+            throw t;
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
@@ -0,0 +1,168 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+
+/**
+ * The {@link OutputStream} the JSON responses are serialized into.
+ * <p>
+ * The bytes flushed by the Jackson generator are written straight into a pooled direct {@link ByteBuf}, which is then
+ * passed as is to Vert.x when the stream is closed: the response body is neither split into chunks nor consolidated
+ * again, and the buffer is allocated with the size of the first flush, which is the size of the whole body for most
+ * responses.
+ * <p>
+ * The body is only buffered up to the configured output buffer size. Beyond that, the buffered bytes are written to the
+ * regular response {@link OutputStream} and the rest of the body is streamed through it.
+ */
+final class PooledByteBufOutputStream extends OutputStream {
+
+    private static final int MIN_CAPACITY = 256;
+
+    private final ServerRequestContext context;
+    private final HttpServerResponse response;
+    private final int maxCapacity;
+
+    private ByteBuf buffer;
+    private OutputStream delegate;
+    private boolean closed;
+
+    private PooledByteBufOutputStream(ServerRequestContext context, HttpServerResponse response, int maxCapacity) {
+        this.context = context;
+        this.response = response;
+        this.maxCapacity = maxCapacity;
+    }
+
+    /**
+     * @return the stream the response body must be written into, it must either be closed or passed to
+     *         {@link #discard(OutputStream)}
+     */
+    static OutputStream create(ServerRequestContext context) {
+        if (context instanceof ResteasyReactiveRequestContext requestContext && requestContext.getOutputStream() == null) {
+            HttpServerResponse response = requestContext.serverRequest().unwrap(HttpServerResponse.class);
+            if (response != null) {
+                return new PooledByteBufOutputStream(context, response,
+                        requestContext.getDeployment().getResteasyReactiveConfig().getOutputBufferSize());
+            }
+        }
+        return context.getOrCreateOutputStream();
+    }
+
+    /**
+     * Releases the buffered bytes of a stream which will not be closed because the serialization failed.
+     */
+    static void discard(OutputStream stream) {
+        if (stream instanceof PooledByteBufOutputStream pooled) {
+            pooled.release();
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (delegate == null && reserve(1)) {
+            buffer.writeByte(b);
+        } else {
+            delegate().write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len < 1) {
+            return;
+        }
+        if (delegate == null && reserve(len)) {
+            buffer.writeBytes(b, off, len);
+        } else {
+            delegate().write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // the buffered bytes are sent on close
+        if (delegate != null) {
+            delegate.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (delegate != null) {
+            delegate.close();
+            return;
+        }
+        if (response.ended()) { // can happen when an exception occurs during JSON serialization with Jackson
+            release();
+            return;
+        }
+        ByteBuf data = buffer;
+        buffer = null;
+        if (data == null) {
+            response.end();
+            return;
+        }
+        try {
+            response.end(new NoBoundChecksBuffer(data));
+        } catch (Exception e) {
+            if (data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
+        }
+    }
+
+    private boolean reserve(int len) {
+        if (closed) {
+            return false;
+        }
+        if (buffer == null) {
+            if (len > maxCapacity) {
+                return false;
+            }
+            buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(Math.min(Math.max(len, MIN_CAPACITY), maxCapacity),
+                    maxCapacity);
+            return true;
+        }
+        if (buffer.maxWritableBytes() < len) {
+            return false;
+        }
+        buffer.ensureWritable(len);
+        return true;
+    }
+
+    private OutputStream delegate() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (delegate == null) {
+            delegate = context.getOrCreateOutputStream();
+            if (buffer != null) {
+                try {
+                    buffer.readBytes(delegate, buffer.readableBytes());
+                } finally {
+                    release();
+                }
+            }
+        }
+        return delegate;
+    }
+
+    private void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+}
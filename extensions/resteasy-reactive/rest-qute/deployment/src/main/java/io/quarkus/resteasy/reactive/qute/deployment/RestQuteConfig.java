@@ -19,4 +19,15 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method that is
+     * executed on a worker thread is rendered directly to the HTTP response.
+     * <p>
+     * The output is written in chunks as the template is rendered, instead of being rendered to a {@link String} first. This
+     * reduces the memory consumption and the time to first byte for large templates. However, the response status and
+     * headers are sent with the first chunk and cannot be changed if rendering fails afterwards.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
@@ -0,0 +1,74 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+
+public class TemplateInstanceStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true"), "application.properties")
+                    .addAsResource(new StringAsset("{#for i in count}{i}:{name}\n{/for}"), "templates/item.txt"));
+
+    @Test
+    public void testStreaming() {
+        // the output exceeds the response buffer and is therefore sent in multiple chunks
+        when().get("/test?count=10000").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.startsWith("1:foo\n2:foo\n"), Matchers.endsWith("10000:foo\n"));
+        when().get("/test?count=2").then().statusCode(200).body(Matchers.is("1:foo\n2:foo\n"));
+    }
+
+    @Test
+    public void testNonBlocking() {
+        when().get("/test/non-blocking").then().statusCode(200).body(Matchers.is("1:bar\n"));
+        when().get("/test/uni").then().statusCode(200).body(Matchers.is("1:baz\n"));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template item;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get(@QueryParam("count") int count) {
+            return item.data("count", count).data("name", "foo");
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance nonBlocking() {
+            return item.data("count", 1).data("name", "bar");
+        }
+
+        @GET
+        @Path("uni")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<TemplateInstance> uni() {
+            return Uni.createFrom().item(item.data("count", 1).data("name", "baz"));
+        }
+    }
+}
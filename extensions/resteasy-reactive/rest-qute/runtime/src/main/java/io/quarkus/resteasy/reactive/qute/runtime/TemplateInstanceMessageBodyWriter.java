@@ -0,0 +1,119 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Renders a {@link TemplateInstance} directly to the response output stream.
+ * <p>
+ * The rendered parts are encoded and written to the response as they are produced, so the output of a template is never
+ * held in memory as a whole. The response output stream appends the bytes to pooled buffers and sends them to the client
+ * in chunks. Since rendering may block, this writer is only used on a worker thread, see
+ * {@link TemplateResponseStreamingHandler}.
+ */
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return doIsWriteable(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target,
+            MediaType mediaType) {
+        return doIsWriteable(type);
+    }
+
+    private static boolean doIsWriteable(Class<?> type) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType) {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        render(instance, mediaType, entityStream);
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        ResteasyReactiveRequestContext rrContext = (ResteasyReactiveRequestContext) context;
+        OutputStream outputStream = context.getOrCreateOutputStream();
+        try {
+            render(instance, context.getResponseMediaType(), outputStream);
+            outputStream.close();
+        } catch (Throwable t) {
+            if (context.serverResponse().headWritten()) {
+                // the first chunks were already sent, the client will see an incomplete response
+                context.serverResponse().reset();
+                rrContext.resume(t);
+            } else {
+                throw t;
+            }
+        }
+    }
+
+    static void render(TemplateInstance instance, MediaType mediaType, OutputStream outputStream) throws IOException {
+        // the writer buffers the encoded parts so that the stream is not hit for every single part
+        Writer writer = new OutputStreamWriter(outputStream, MessageReaderUtil.charsetFromMediaType(mediaType));
+        CompletionStage<Void> rendered = instance.consume(new Consumer<String>() {
+            @Override
+            public void accept(String part) {
+                try {
+                    writer.write(part);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        long timeout = instance.getTimeout();
+        try {
+            rendered.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TemplateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TemplateException(cause);
+        }
+        writer.flush();
+    }
+
+}
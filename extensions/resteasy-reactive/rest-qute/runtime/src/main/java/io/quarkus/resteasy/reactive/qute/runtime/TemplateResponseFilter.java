@@ -26,7 +26,9 @@ public class TemplateResponseFilter {
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
-        if (!(entity instanceof TemplateInstance instance)) {
+        if (!(entity instanceof TemplateInstance instance)
+                || requestContext.getProperty(TemplateResponseStreamingHandler.STREAMED) != null) {
+            // the template is rendered directly to the response by TemplateInstanceMessageBodyWriter
             return null;
         }
 
@@ -0,0 +1,34 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
+
+import org.jboss.resteasy.reactive.common.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * If blocking is allowed then the {@link TemplateInstance} is kept as the result and rendered by the
+ * {@link TemplateInstanceMessageBodyWriter}. Otherwise, the template is rendered asynchronously as usual.
+ */
+public class TemplateResponseStreamingHandler extends TemplateResponseUniHandler {
+
+    /**
+     * The request property set if the {@link TemplateInstance} is rendered by the {@link TemplateInstanceMessageBodyWriter},
+     * in which case the {@link TemplateResponseFilter} must not render it.
+     */
+    static final String STREAMED = TemplateResponseStreamingHandler.class.getName() + ".streamed";
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        if (requestContext.getResult() instanceof TemplateInstance result && BlockingOperationSupport.isBlockingAllowed()) {
+            requestContext.requireCDIRequestScope();
+            requestContext.setProperty(STREAMED, Boolean.TRUE);
+            requestContext.setResponseContentType(setSelectedVariant(result, requestContext.getRequest(),
+                    requestContext.getHttpHeaders().getAcceptableLanguages()));
+            return;
+        }
+        super.handle(requestContext);
+    }
+
+}
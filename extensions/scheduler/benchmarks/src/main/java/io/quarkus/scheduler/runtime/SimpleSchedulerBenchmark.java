@@ -0,0 +1,169 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.ScheduledMethod;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+
+/**
+ * Measures a check of the triggers of the {@link SimpleScheduler} when many programmatic jobs are scheduled but none of
+ * them is due, which is the common case for per-tenant jobs that fire once an hour.
+ * <p>
+ * {@link #checkTriggers()} is the current check, which only evaluates the due triggers. {@link #scanTriggers(Blackhole)}
+ * is the previous check, which evaluated every trigger once per second. The execution of the due jobs costs the same
+ * with both, so the jobs never fire here, which also avoids the need for a CDI container.
+ * <p>
+ * The benchmark is declared in the package of the scheduler to access the triggers and the check directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleSchedulerBenchmark {
+
+    @Param({ "1000", "100000" })
+    int jobs;
+
+    SimpleScheduler scheduler;
+    List<Trigger> triggers;
+
+    @Setup
+    public void setup() {
+        scheduler = new SimpleScheduler(new BenchmarkSchedulerContext(), new BenchmarkSchedulerRuntimeConfig(), null, null,
+                null, null, null, null, null, null, null, new BenchmarkSchedulerConfig(), null, null);
+        for (int i = 0; i < jobs; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("1h")
+                    .setTask(ex -> {
+                        throw new IllegalStateException("The job is not expected to fire");
+                    })
+                    .schedule();
+        }
+        triggers = scheduler.getScheduledJobs();
+        // pretend that each job has just fired, the first check then only re-queues them for the next hour
+        ZonedDateTime now = ZonedDateTime.now();
+        for (Trigger trigger : triggers) {
+            ((SimpleScheduler.SimpleTrigger) trigger).lastFireTime = now;
+        }
+        scheduler.checkTriggers();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Benchmark
+    public void checkTriggers() {
+        scheduler.checkTriggers();
+    }
+
+    @Benchmark
+    public void scanTriggers(Blackhole blackhole) {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (Trigger trigger : triggers) {
+            SimpleScheduler.SimpleTrigger simpleTrigger = (SimpleScheduler.SimpleTrigger) trigger;
+            if (simpleTrigger.isRunning()) {
+                blackhole.consume(simpleTrigger.evaluate(now));
+            }
+        }
+    }
+
+    static class BenchmarkSchedulerContext implements SchedulerContext {
+
+        @Override
+        public CronType getCronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods() {
+            return List.of();
+        }
+
+        @Override
+        public boolean forceSchedulerStart() {
+            // there is no scheduled method, the scheduler is started for the programmatic jobs
+            return true;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods(String implementation) {
+            return List.of();
+        }
+
+        @Override
+        public boolean matchesImplementation(Scheduled scheduled, String implementation) {
+            return Scheduled.SIMPLE.equals(implementation);
+        }
+
+        @Override
+        public String autoImplementation() {
+            return Scheduled.SIMPLE;
+        }
+    }
+
+    static class BenchmarkSchedulerRuntimeConfig implements SchedulerRuntimeConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public Duration overdueGracePeriod() {
+            return Duration.ofSeconds(1);
+        }
+
+        @Override
+        public StartMode startMode() {
+            return StartMode.NORMAL;
+        }
+    }
+
+    static class BenchmarkSchedulerConfig implements SchedulerConfig {
+
+        @Override
+        public CronType cronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public boolean metricsEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean tracingEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean useCompositeScheduler() {
+            return false;
+        }
+    }
+}
@@ -59,8 +59,6 @@
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
-import io.quarkus.deployment.Capabilities;
-import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmo2Adaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -267,8 +265,7 @@ private void collectScheduledMethods(IndexView index, TransformedAnnotationsBuil
 
     @BuildStep
     void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusinessMethodItem> scheduledMethods,
-            ValidationPhaseBuildItem validationPhase,
-            Capabilities capabilities, BeanArchiveIndexBuildItem beanArchiveIndex,
+            ValidationPhaseBuildItem validationPhase, BeanArchiveIndexBuildItem beanArchiveIndex,
             DiscoveredImplementationsBuildItem discoveredImplementations,
             BuildProducer<ValidationErrorBuildItem> validationErrors,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
@@ -324,7 +321,8 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            // Quartz and the simple scheduler both support intervals down to 50 ms
+            long checkPeriod = SimpleScheduler.MIN_INTERVAL;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
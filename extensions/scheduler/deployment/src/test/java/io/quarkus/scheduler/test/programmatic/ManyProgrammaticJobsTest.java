@@ -0,0 +1,70 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ManyProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    static final int JOBS = 100_000;
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        AtomicInteger idleExecutions = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int i = 0; i < JOBS; i++) {
+            scheduler.newJob("idle" + i)
+                    .setInterval("1h")
+                    .setDelayed("1h")
+                    .setTask(ex -> idleExecutions.incrementAndGet())
+                    .schedule();
+        }
+        long scheduled = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(scheduled < 30_000, "Scheduling " + JOBS + " jobs took " + scheduled + " ms");
+        assertEquals(JOBS + 1, scheduler.getScheduledJobs().size());
+
+        // Only the due triggers are evaluated and a sub-second interval is not delayed to the next whole second
+        CountDownLatch latch = new CountDownLatch(10);
+        scheduler.newJob("frequent")
+                .setInterval("100ms")
+                .setTask(ex -> latch.countDown())
+                .schedule();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("frequent"));
+        assertEquals(0, idleExecutions.get());
+
+        for (int i = 0; i < JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("idle" + i));
+        }
+        assertEquals(1, scheduler.getScheduledJobs().size());
+    }
+
+    static class Jobs {
+
+        @Scheduled(identity = "dummy", every = "60m")
+        static void dummy() {
+        }
+    }
+
+}
@@ -10,11 +10,14 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -71,11 +74,22 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds
+    public static final long MIN_INTERVAL = 50L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
 
+    // Tasks ordered by the time of the next check so that only the tasks that may fire are evaluated
+    private final PriorityQueue<ScheduledTask> queue;
+    // Guarded by queue; the next check is null while the triggers are being checked
+    private ScheduledFuture<?> nextCheck;
+    private long nextCheckTime;
+    private long checkSequence;
+    private int unscheduledTasks;
+
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Event<DelayedExecution> delayedExecutionEvent,
@@ -90,6 +104,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.queue = new PriorityQueue<>();
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,7 +138,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers when the next one is due, or at least every second
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -157,7 +172,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    enqueue(task, task.trigger.nextCheckTime(ZonedDateTime.now()));
                 }
             }
         }
@@ -196,6 +213,13 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    synchronized (queue) {
+                        // Unscheduled tasks are skipped when polled and only purged if there are too many of them
+                        if (++unscheduledTasks > queue.size() / 2) {
+                            queue.removeIf(t -> scheduledTasks.get(t.trigger.id) != t);
+                            unscheduledTasks = 0;
+                        }
+                    }
                     return task.trigger;
                 }
             }
@@ -212,8 +236,9 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        synchronized (queue) {
+            scheduleCheck(ChronoUnit.MILLIS.between(now, trunc));
+        }
     }
 
     @PreDestroy
@@ -233,9 +258,79 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        ScheduledTask task;
+        while ((task = pollDue(nowMillis)) != null) {
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // Unscheduled
+                continue;
+            }
+            long nextCheckTime;
+            if (task.execute(now, vertx)) {
+                nextCheckTime = task.trigger.nextCheckTime(now);
+            } else {
+                // The trigger is paused
+                nextCheckTime = nowMillis + CHECK_PERIOD;
+            }
+            if (nextCheckTime < 0) {
+                LOG.tracef("%s will never fire again", task.trigger);
+                continue;
+            }
+            // Make sure the task is not checked again in the same round
+            enqueue(task, Math.max(nextCheckTime, nowMillis + 1));
+        }
+    }
+
+    private void check(long sequence) {
+        synchronized (queue) {
+            if (sequence != checkSequence) {
+                // This check was cancelled and replaced with an earlier one
+                return;
+            }
+            nextCheck = null;
+        }
+        try {
+            checkTriggers();
+        } finally {
+            synchronized (queue) {
+                long delay = CHECK_PERIOD;
+                ScheduledTask next = queue.peek();
+                if (running && next != null) {
+                    delay = Math.min(delay, Math.max(0, next.checkTime - System.currentTimeMillis()));
+                }
+                scheduleCheck(delay);
+            }
+        }
+    }
+
+    private ScheduledTask pollDue(long now) {
+        synchronized (queue) {
+            ScheduledTask next = queue.peek();
+            return next != null && next.checkTime <= now ? queue.poll() : null;
+        }
+    }
+
+    private void enqueue(ScheduledTask task, long checkTime) {
+        synchronized (queue) {
+            task.checkTime = checkTime;
+            queue.offer(task);
+            // A task scheduled programmatically may be due before the next check
+            if (nextCheck != null && checkTime < nextCheckTime && nextCheck.cancel(false)) {
+                scheduleCheck(Math.max(0, checkTime - System.currentTimeMillis()));
+            }
+        }
+    }
+
+    // Must be called while holding the queue lock
+    private void scheduleCheck(long delay) {
+        long sequence = ++checkSequence;
+        try {
+            nextCheck = scheduledExecutor.schedule(() -> check(sequence), delay, TimeUnit.MILLISECONDS);
+            nextCheckTime = System.currentTimeMillis() + delay;
+        } catch (RejectedExecutionException e) {
+            // The scheduler was stopped
+            LOG.tracef("Unable to schedule the next check: %s", e);
         }
     }
 
@@ -375,11 +470,13 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
         }
     }
 
-    static class ScheduledTask {
+    static class ScheduledTask implements Comparable<ScheduledTask> {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // epoch milliseconds; guarded by the queue of the scheduler
+        long checkTime;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -387,9 +484,12 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        /**
+         * @return {@code false} if the trigger is paused, {@code true} otherwise
+         */
+        boolean execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
-                return;
+                return false;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
@@ -399,6 +499,12 @@ void execute(ZonedDateTime now, Vertx vertx) {
                     // already logged by the StatusEmitterInvoker
                 }
             }
+            return true;
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            return Long.compare(checkTime, other.checkTime);
         }
 
     }
@@ -426,6 +532,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @param now The current date-time in the default time zone
+         * @return the time in epoch milliseconds at which the trigger should be evaluated next, or {@code -1} if it will
+         *         never fire again
+         */
+        abstract long nextCheckTime(ZonedDateTime now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -466,10 +579,10 @@ static class IntervalTrigger extends SimpleTrigger {
             super(id, start, methodDescription, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            if (interval < MIN_INTERVAL) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        MIN_INTERVAL, description);
             }
         }
 
@@ -480,19 +593,46 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = isSubSecond() ? now : now.truncatedTo(ChronoUnit.SECONDS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (isSubSecond()) {
+                    // Keep the rate unless an execution was missed
+                    lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
+                } else {
+                    lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        long nextCheckTime(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start.toInstant().toEpochMilli();
+            }
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return now.toInstant().toEpochMilli();
+            }
+            long next = last.toInstant().toEpochMilli() + interval;
+            if (isSubSecond()) {
+                return next;
+            }
+            // The last fire time is truncated to seconds, so the trigger is only evaluated at the whole seconds
+            long remainder = next % CHECK_PERIOD;
+            return remainder == 0 ? next : next - remainder + CHECK_PERIOD;
+        }
+
+        private boolean isSubSecond() {
+            return interval < CHECK_PERIOD;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -562,6 +702,14 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long nextCheckTime(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start.toInstant().toEpochMilli();
+            }
+            return executionTime.nextExecution(lastFireTime).map(t -> t.toInstant().toEpochMilli()).orElse(-1L);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -684,6 +832,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                enqueue(scheduledTask, simpleTrigger.nextCheckTime(ZonedDateTime.now()));
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Static resources that were compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+    private final Map<String, String> etags;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> etags) {
+        this.etags = etags;
+    }
+
+    /**
+     * @return the entity tags of the uncompressed content, keyed by the resource path
+     */
+    public Map<String, String> getETags() {
+        return etags;
+    }
+}
@@ -2,13 +2,25 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,20 +31,32 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesPrecompressionConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResources;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -63,10 +87,102 @@ void collectStaticResources(Capabilities capabilities,
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedResources.map(PrecompressedStaticResourcesBuildItem::getETags).orElse(Map.of()))));
+        }
+    }
+
+    @BuildStep
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources, LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        StaticResourcesPrecompressionConfig config = httpBuildTimeConfig.staticResourcesPrecompression();
+        if (!config.enabled() || staticResources.isEmpty() || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        List<String> encodings = new ArrayList<>(config.encodings().size());
+        for (String encoding : config.encodings()) {
+            if (GZIP.equals(encoding)) {
+                encodings.add(encoding);
+            } else if (BROTLI.equals(encoding)) {
+                if (Brotli4jLoader.isAvailable()) {
+                    encodings.add(encoding);
+                } else {
+                    LOG.warn("Static resources are not pre-compressed with Brotli because the Brotli4J native library"
+                            + " is not available for the build platform");
+                }
+            } else {
+                throw new IllegalStateException("Unsupported pre-compression encoding '" + encoding
+                        + "' configured in 'quarkus.http.static-resources.precompression.encodings', supported encodings are "
+                        + BROTLI + " and " + GZIP);
+            }
         }
+        if (encodings.isEmpty()) {
+            return;
+        }
+
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        Set<String> paths = staticResources.get().getPaths();
+        Map<String, String> etags = new HashMap<>();
+        List<String> nativeResources = new ArrayList<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            String rel = visit.getResourceName();
+            if (!rel.startsWith(prefix) || Files.isDirectory(visit.getPath())) {
+                return;
+            }
+            String path = rel.substring(prefix.length());
+            String contentType = MimeMapping.mimeTypeForFilename(path);
+            if (!paths.contains(path) || etags.containsKey(path) || contentType == null
+                    || !compressMediaTypes.contains(contentType)) {
+                return;
+            }
+            try {
+                byte[] content = Files.readAllBytes(visit.getPath());
+                boolean compressed = false;
+                for (String encoding : encodings) {
+                    byte[] variant = BROTLI.equals(encoding) ? brotli(content) : gzip(content);
+                    // a compressed variant that is not smaller than the content is useless
+                    if (variant.length < content.length) {
+                        String name = PrecompressedStaticResources.variantResourceName(path, encoding);
+                        generatedResources.produce(new GeneratedResourceBuildItem(name, variant));
+                        nativeResources.add(name);
+                        compressed = true;
+                    }
+                }
+                if (compressed) {
+                    etags.put(path, HashUtil.sha1(content));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to pre-compress the static resource " + rel, e);
+            }
+        });
+        if (!etags.isEmpty()) {
+            nativeImageResources.produce(new NativeImageResourceBuildItem(nativeResources));
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(etags));
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) throws IOException {
+        return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
     }
 
     @BuildStep
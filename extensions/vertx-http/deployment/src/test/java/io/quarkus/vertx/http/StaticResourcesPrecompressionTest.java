@@ -0,0 +1,65 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class StaticResourcesPrecompressionTest {
+
+    @RegisterExtension
+    final static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset(
+                            "quarkus.http.static-resources.precompression.enabled=true\n"
+                                    + "quarkus.http.static-resources.precompression.encodings=gzip\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset("<html><body>" + CompressionTest.TEXT + "</body></html>"),
+                            "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/image.png"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        String etag = given().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .header("Vary", containsString("accept-encoding"))
+                .header("ETag", notNullValue())
+                .body(containsString("Lorem ipsum"))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag)
+                .get("/index.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldServeUncompressedWhenEncodingNotAccepted() {
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/index.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("Lorem ipsum"));
+    }
+
+    @Test
+    public void shouldNotPrecompressOtherMediaTypes() {
+        given().get("/image.png")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+}
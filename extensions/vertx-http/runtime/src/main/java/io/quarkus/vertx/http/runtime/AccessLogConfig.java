@@ -3,6 +3,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.vertx.http.runtime.filters.accesslog.BatchingAccessLogReceiver;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -94,4 +95,41 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * Configuration of the batching access log writer, used when logging to a separate file.
+     */
+    BatchingConfig batching();
+
+    interface BatchingConfig {
+        /**
+         * If log messages should be encoded into pooled buffers on the calling thread and written in batches
+         * through a bounded queue.
+         * <p>
+         * This reduces allocations at high request rates, at the cost of dropping messages or blocking the calling
+         * thread when the queue is full, see {@link #overflowPolicy()}. Only applies if {@link AccessLogConfig#logToFile()} is enabled.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of log messages waiting to be written.
+         */
+        @WithDefault("8192")
+        int queueSize();
+
+        /**
+         * The maximum number of log messages written to the file at once.
+         */
+        @WithDefault("256")
+        int maxBatchSize();
+
+        /**
+         * What to do with a log message when the queue is full.
+         * <p>
+         * The `block` policy makes the calling thread, usually an event loop, wait until there is room in the queue.
+         */
+        @WithDefault("drop")
+        BatchingAccessLogReceiver.OverflowPolicy overflowPolicy();
+    }
 }
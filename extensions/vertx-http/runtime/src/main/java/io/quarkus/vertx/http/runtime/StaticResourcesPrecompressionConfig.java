@@ -0,0 +1,30 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesPrecompressionConfig {
+
+    /**
+     * If enabled then the static resources from {@code META-INF/resources} whose media type is listed in
+     * {@code quarkus.http.compress-media-types} are compressed at build time.
+     * <p>
+     * At runtime, the compressed variants are kept in memory and sent as-is to the clients that accept the encoding,
+     * together with a precomputed {@code ETag}, so that no compression happens per request.
+     * Pre-compression is disabled in dev mode.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The encodings of the compressed variants, in the order of preference.
+     * <p>
+     * The supported encodings are {@code br} and {@code gzip}. The {@code br} encoding requires the Brotli4J native
+     * library to be available for the build platform, it is skipped otherwise.
+     */
+    @WithDefault("br,gzip")
+    List<String> encodings();
+}
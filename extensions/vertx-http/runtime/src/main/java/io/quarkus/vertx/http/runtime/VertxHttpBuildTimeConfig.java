@@ -116,6 +116,12 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * Build time compression of the static resources.
+     */
+    @WithName("static-resources.precompression")
+    StaticResourcesPrecompressionConfig staticResourcesPrecompression();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -9,6 +10,9 @@
 
 /**
  * The current time
+ * <p>
+ * If the format does not contain fractions of a second, the formatted value is cached and only recomputed once per
+ * second.
  *
  */
 public class DateTimeAttribute implements ExchangeAttribute {
@@ -22,6 +26,9 @@ public class DateTimeAttribute implements ExchangeAttribute {
     public static final ExchangeAttribute INSTANCE = new DateTimeAttribute();
 
     private final DateTimeFormatter formatter;
+    // `false` if the format contains fractions of a second
+    private final boolean cacheable;
+    private volatile CachedValue cached = new CachedValue(Long.MIN_VALUE, null);
 
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
@@ -37,11 +44,32 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
             fmt = fmt.withZone(ZoneId.of(timezone));
         }
         this.formatter = fmt;
+        this.cacheable = isSecondPrecision(fmt);
     }
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        if (!cacheable) {
+            return formatter.format(ZonedDateTime.now());
+        }
+        long millis = System.currentTimeMillis();
+        long second = Math.floorDiv(millis, 1000);
+        CachedValue current = cached;
+        if (current.second != second) {
+            // racing threads compute the same value, the last one wins
+            current = new CachedValue(second,
+                    formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault())));
+            cached = current;
+        }
+        return current.value;
+    }
+
+    private static boolean isSecondPrecision(DateTimeFormatter formatter) {
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(1_000_000_000L), ZoneId.systemDefault());
+        return formatter.format(time).equals(formatter.format(time.withNano(123_456_789)));
+    }
+
+    private record CachedValue(long second, String value) {
     }
 
     @Override
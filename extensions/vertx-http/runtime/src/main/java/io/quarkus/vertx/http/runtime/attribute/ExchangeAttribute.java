@@ -16,6 +16,23 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute resolved from the HTTP server exchange to the given builder. Nothing is appended if the
+     * attribute is not present.
+     * <p>
+     * Attributes rendered for every request, such as the access log attributes, should override this method so that
+     * no intermediate string is created.
+     *
+     * @param exchange The exchange
+     * @param builder The builder to append the attribute to
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
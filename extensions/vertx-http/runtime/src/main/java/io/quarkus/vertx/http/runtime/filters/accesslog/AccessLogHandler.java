@@ -93,6 +93,16 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    // builders larger than this are not reused, so that a single huge message does not retain memory
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8192;
+
+    private static final ThreadLocal<StringBuilder> MESSAGE_BUILDER = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -155,7 +165,13 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                StringBuilder message = MESSAGE_BUILDER.get();
+                message.setLength(0);
+                tokens.appendAttribute(rc, message);
+                accessLogReceiver.logMessage(message);
+                if (message.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                    MESSAGE_BUILDER.remove();
+                }
             }
         });
         if (consolidateReroutedRequests) {
@@ -29,4 +29,14 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message that is only valid for the duration of this call: the caller may reuse the character sequence
+     * afterwards, so implementations must not keep a reference to it.
+     * <p>
+     * Implementations that can consume the characters directly should override this method to avoid creating a string.
+     */
+    default void logMessage(final CharSequence message) {
+        logMessage(message.toString());
+    }
+
 }
@@ -0,0 +1,301 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Log receiver that writes log messages to a file in batches.
+ * <p>
+ * Unlike the {@link DefaultAccessLogReceiver}, messages are encoded to UTF-8 directly on the calling thread into
+ * pooled direct buffers, which are handed over to a writer task through a bounded queue. The writer task drains
+ * the queue in batches and writes every batch with a single gathering {@link FileChannel#write(ByteBuffer[])}
+ * call, so neither intermediate strings are queued nor are bytes copied through a {@link java.io.Writer}.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicy} decides whether the message is dropped or whether the calling
+ * thread waits. The number of dropped messages is available from {@link #getDroppedMessages()} and is also reported
+ * in the application log.
+ * <p>
+ * The log file is rotated after midnight, using the same naming scheme as the {@link DefaultAccessLogReceiver}.
+ */
+public class BatchingAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(BatchingAccessLogReceiver.class);
+
+    private static final String DOT = ".";
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    /**
+     * What to do with a message when the queue of pending messages is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The message is dropped and counted.
+         */
+        DROP,
+        /**
+         * The calling thread waits until the message can be queued. Note that this blocks the event loop if the
+         * message is logged from it.
+         */
+        BLOCK,
+    }
+
+    private final Executor logWriteExecutor;
+    private final ByteBufAllocator allocator;
+    private final Queue<ByteBuf> pendingMessages;
+    private final OverflowPolicy overflowPolicy;
+    private final ByteBuffer[] batch;
+    private final ByteBuf[] batchBuffers;
+    private final LongAdder droppedMessages = new LongAdder();
+    private long reportedDroppedMessages;
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<BatchingAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(BatchingAccessLogReceiver.class, "state");
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+
+    private long changeOverPoint;
+    private String currentDateString;
+    private FileChannel channel;
+    private volatile boolean closed = false;
+
+    public BatchingAccessLogReceiver(Executor logWriteExecutor, ByteBufAllocator allocator, Path outputDirectory,
+            String logBaseName, String logNameSuffix, boolean rotate, int queueSize, int maxBatchSize,
+            OverflowPolicy overflowPolicy) {
+        this.logWriteExecutor = logWriteExecutor;
+        this.allocator = allocator;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName.endsWith(DOT) ? logBaseName.substring(0, logBaseName.length() - 1) : logBaseName;
+        this.logNameSuffix = logNameSuffix.startsWith(DOT) ? logNameSuffix : DOT + logNameSuffix;
+        this.rotate = rotate;
+        this.overflowPolicy = overflowPolicy;
+        this.pendingMessages = PlatformDependent.newFixedMpscQueue(queueSize);
+        this.batch = new ByteBuffer[maxBatchSize];
+        this.batchBuffers = new ByteBuf[maxBatchSize];
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        logMessage((CharSequence) message);
+    }
+
+    @Override
+    public void logMessage(CharSequence message) {
+        if (closed) {
+            return;
+        }
+        ByteBuf buffer = allocator.directBuffer(ByteBufUtil.utf8MaxBytes(message) + 1);
+        ByteBufUtil.writeUtf8(buffer, message);
+        buffer.writeByte(LINE_SEPARATOR);
+        enqueue(buffer);
+    }
+
+    private void enqueue(ByteBuf buffer) {
+        while (!pendingMessages.offer(buffer)) {
+            if (overflowPolicy == OverflowPolicy.DROP || closed) {
+                buffer.release();
+                droppedMessages.increment();
+                scheduleWrite();
+                return;
+            }
+            scheduleWrite();
+            LockSupport.parkNanos(100_000);
+        }
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        if (stateUpdater.get(this) == 0 && stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the queue of pending messages was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * Writes all queued log messages.
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        try {
+            int count;
+            do {
+                count = drainBatch();
+                if (count > 0) {
+                    writeBatch(count);
+                }
+            } while (count == batch.length);
+            reportDroppedMessages();
+        } finally {
+            stateUpdater.set(this, 0);
+            if (!pendingMessages.isEmpty()) {
+                scheduleWrite();
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        ByteBuf buffer;
+        while (count < batch.length && (buffer = pendingMessages.poll()) != null) {
+            batchBuffers[count] = buffer;
+            batch[count] = buffer.nioBuffer();
+            count++;
+        }
+        return count;
+    }
+
+    private void writeBatch(int count) {
+        try {
+            if (System.currentTimeMillis() > changeOverPoint) {
+                doRotate();
+            }
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            int offset = 0;
+            while (offset < count) {
+                channel.write(batch, offset, count - offset);
+                // skip the buffers that were written completely, a gathering write may be partial
+                while (offset < count && !batch[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            for (int i = 0; i < count; i++) {
+                batchBuffers[i].release();
+                batchBuffers[i] = null;
+                batch[i] = null;
+            }
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped > reportedDroppedMessages) {
+            log.warnf("%d access log messages were dropped because the access log queue was full",
+                    dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void doRotate() {
+        if (!rotate) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * For tests only. Blocks the current thread until all messages are written
+     * Just does a busy wait.
+     * <p/>
+     * DO NOT USE THIS OUTSIDE OF A TEST
+     */
+    void awaitWrittenForTest() throws InterruptedException {
+        while (!pendingMessages.isEmpty()) {
+            Thread.sleep(10);
+        }
+        while (state != 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        scheduleWrite();
+    }
+}
@@ -0,0 +1,188 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources compressed at build time.
+ * <p>
+ * The compressed variants are loaded in memory when the application starts. A request is served from memory if the
+ * client accepts one of the encodings of the resource, otherwise it is left to the {@link io.vertx.ext.web.handler.StaticHandler}.
+ * Range requests are always left to the {@link io.vertx.ext.web.handler.StaticHandler}.
+ */
+public class PrecompressedStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResources.class);
+
+    private final Map<String, Variant[]> resources;
+    private final String cacheControl;
+
+    /**
+     * @param etags the entity tags of the pre-compressed resources, keyed by the resource path
+     * @param encodings the encodings of the compressed variants, in the order of preference
+     * @param defaultEncoding the charset of text resources
+     * @param maxAgeSeconds the max age of the {@code Cache-Control} header, or {@code -1} if caching is disabled
+     */
+    public PrecompressedStaticResources(Map<String, String> etags, List<String> encodings, Charset defaultEncoding,
+            long maxAgeSeconds) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        Map<String, Variant[]> resources = new HashMap<>();
+        for (Map.Entry<String, String> entry : etags.entrySet()) {
+            String path = entry.getKey();
+            String contentType = contentType(path, defaultEncoding);
+            List<Variant> variants = new ArrayList<>(encodings.size());
+            for (String encoding : encodings) {
+                Buffer content = load(cl, variantResourceName(path, encoding));
+                if (content != null) {
+                    variants.add(new Variant(encoding, contentType, "\"" + entry.getValue() + "-" + encoding + "\"",
+                            content));
+                }
+            }
+            if (!variants.isEmpty()) {
+                resources.put(path, variants.toArray(new Variant[0]));
+            }
+        }
+        this.resources = resources;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+    }
+
+    /**
+     * @param path the resource path, relative to {@code META-INF/resources}
+     * @param encoding the encoding of the compressed variant
+     * @return the classpath resource name of the compressed variant
+     */
+    public static String variantResourceName(String path, String encoding) {
+        return StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + path + "." + encoding;
+    }
+
+    /**
+     * Sends the compressed variant of the resource if there is one the client accepts.
+     *
+     * @param ctx the routing context
+     * @param path the resource path, relative to {@code META-INF/resources}
+     * @return {@code true} if the response was sent, {@code false} if the request must be handled by the next handler
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        Variant[] variants = resources.get(path);
+        if (variants == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || request.headers().contains(HttpHeaders.RANGE)) {
+            return false;
+        }
+        String acceptEncoding = request.headers().get(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Variant variant = null;
+        for (Variant v : variants) {
+            if (accepts(acceptEncoding, v.encoding)) {
+                variant = v;
+                break;
+            }
+        }
+        if (variant == null) {
+            return false;
+        }
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        String ifNoneMatch = request.headers().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(variant.etag) || ifNoneMatch.trim().equals("*"))) {
+            // remove the identity content encoding that may have been set to disable the compression
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        if (variant.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, variant.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.length()));
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the {@code Accept-Encoding} header value contains the given encoding with a non-zero quality
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int paramsStart = acceptEncoding.indexOf(';', start);
+            int nameEnd = paramsStart == -1 || paramsStart > end ? end : paramsStart;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                return nameEnd == end || !isZeroQuality(acceptEncoding.substring(nameEnd + 1, end));
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        String value = params.trim();
+        if (!value.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(value.substring(2).trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String contentType(String path, Charset defaultEncoding) {
+        String contentType = MimeMapping.mimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            return contentType + ";charset=" + defaultEncoding;
+        }
+        return contentType;
+    }
+
+    private static Buffer load(ClassLoader cl, String resourceName) {
+        try (InputStream in = cl.getResourceAsStream(resourceName)) {
+            return in != null ? Buffer.buffer(in.readAllBytes()) : null;
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to read the pre-compressed static resource %s", resourceName);
+            return null;
+        }
+    }
+
+    private record Variant(String encoding, String contentType, String etag, Buffer content) {
+    }
+}
@@ -17,6 +17,19 @@ void shouldReadAttribute() {
         assertThat(dta.readAttribute(null)).isEqualTo(sdf.format(new Date()));
     }
 
+    @Test
+    void shouldCacheValueWithinSecond() {
+        DateTimeAttribute dta = new DateTimeAttribute("dd/MM/yyyy HH:mm:ss");
+        String first = dta.readAttribute(null);
+        String second = dta.readAttribute(null);
+        if (first != second) {
+            // the second boundary was crossed in between
+            first = second;
+            second = dta.readAttribute(null);
+        }
+        assertThat(second).isSameAs(first);
+    }
+
     @Test
     void testDefaultDateFormat() {
         final ExchangeAttribute attribute = new DateTimeAttribute.Builder().build(DateTimeAttribute.DATE_TIME_SHORT);
@@ -0,0 +1,76 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+class BatchingAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    final List<Runnable> tasks = new ArrayList<>();
+
+    BatchingAccessLogReceiver receiver;
+
+    @AfterEach
+    void close() throws IOException {
+        if (receiver != null) {
+            receiver.close();
+            // the file channel is closed by the write task scheduled by close()
+            runTasks();
+        }
+    }
+
+    @Test
+    void testMessagesWritten() throws IOException {
+        receiver = new BatchingAccessLogReceiver(tasks::add, UnpooledByteBufAllocator.DEFAULT, tempDir, "access", ".log",
+                true, 16, 2, BatchingAccessLogReceiver.OverflowPolicy.DROP);
+        receiver.logMessage("Message 1");
+        receiver.logMessage("Message 2 éè");
+        receiver.logMessage("Message 3");
+        // a single write task is scheduled until it runs
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+
+        assertThat(Files.readString(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .isEqualTo("Message 1\nMessage 2 éè\nMessage 3\n");
+        assertThat(receiver.getDroppedMessages()).isZero();
+    }
+
+    @Test
+    void testMessagesDroppedWhenQueueFull() throws IOException {
+        receiver = new BatchingAccessLogReceiver(tasks::add, UnpooledByteBufAllocator.DEFAULT, tempDir, "access", ".log",
+                true, 4, 16, BatchingAccessLogReceiver.OverflowPolicy.DROP);
+        for (int i = 1; i <= 6; i++) {
+            receiver.logMessage("Message " + i);
+        }
+        assertThat(receiver.getDroppedMessages()).isEqualTo(2);
+        tasks.remove(0).run();
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .containsExactly("Message 1", "Message 2", "Message 3", "Message 4");
+
+        receiver.logMessage("Message 7");
+        tasks.remove(0).run();
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8))
+                .endsWith("Message 7");
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
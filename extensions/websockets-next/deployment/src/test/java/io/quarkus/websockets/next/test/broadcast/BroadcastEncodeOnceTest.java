@@ -0,0 +1,109 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.TextMessageCodec;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+
+public class BroadcastEncodeOnceTest {
+
+    private static final int CLIENTS = 5;
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Greeting.class, GreetingCodec.class, Endpoint.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections connections;
+
+    @TestHTTPResource("encode-once")
+    URI testUri;
+
+    @Test
+    public void testMessageEncodedOnce() {
+        WSClient[] clients = new WSClient[CLIENTS];
+        try {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients[i] = WSClient.create(vertx).connect(testUri);
+            }
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> connections.listAll().size() == CLIENTS);
+
+            clients[0].sendAndAwait("foo");
+            for (WSClient client : clients) {
+                client.waitForMessages(1);
+                assertEquals("Hello foo!", client.getLastMessage().toString());
+            }
+            assertEquals(1, GreetingCodec.ENCODED.get());
+        } finally {
+            for (WSClient client : clients) {
+                if (client != null) {
+                    client.close();
+                }
+            }
+        }
+    }
+
+    public record Greeting(String name) {
+    }
+
+    @Singleton
+    public static class GreetingCodec implements TextMessageCodec<Greeting> {
+
+        static final AtomicInteger ENCODED = new AtomicInteger();
+
+        @Override
+        public boolean supports(Type type) {
+            return type.equals(Greeting.class);
+        }
+
+        @Override
+        public String encode(Greeting value) {
+            ENCODED.incrementAndGet();
+            return "Hello " + value.name() + "!";
+        }
+
+        @Override
+        public Greeting decode(Type type, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    @WebSocket(path = "/encode-once")
+    public static class Endpoint {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void process(String name) {
+            connection.broadcast().sendTextAndAwait(new Greeting(name));
+        }
+
+    }
+
+}
@@ -8,7 +8,9 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.netty.util.concurrent.EventExecutor;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
 import io.quarkus.websockets.next.Connection;
@@ -17,9 +19,13 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.internal.http.WebSocketInternal;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
@@ -90,17 +96,73 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(textMessage(message));
+    }
+
+    <M> String textMessage(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
+        } else {
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a text message or a {@link Buffer} as a binary message, without creating a {@link Uni}.
+     * <p>
+     * The sending interceptor and the traffic logger are notified as with {@link #sendText(String)} and
+     * {@link #sendBinary(Buffer)}.
+     */
+    void write(Object message, Handler<AsyncResult<Void>> handler) {
+        Future<Void> future = message instanceof Buffer buffer ? webSocket().writeBinaryMessage(buffer)
+                : webSocket().writeTextMessage((String) message);
+        future.onComplete(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                if (result.succeeded()) {
+                    try {
+                        messageSent(message);
+                    } catch (Throwable t) {
+                        handler.handle(Future.failedFuture(t));
+                        return;
+                    }
+                }
+                handler.handle(result);
+            }
+        });
+    }
+
+    private void messageSent(Object message) {
+        if (message instanceof Buffer buffer) {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(buffer);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.binaryMessageSent(this, buffer);
+            }
         } else {
-            text = codecs.textEncode(message, null);
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend((String) message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.textMessageSent(this, (String) message);
+            }
         }
-        return sendText(text);
+    }
+
+    /**
+     * @return the event loop of the underlying channel, or {@code null} if not known
+     */
+    EventExecutor eventLoop() {
+        if (webSocket() instanceof WebSocketInternal webSocket) {
+            ChannelHandlerContext chctx = webSocket.channelHandlerContext();
+            return chctx != null ? chctx.executor() : null;
+        }
+        return null;
     }
 
     @Override
@@ -6,17 +6,27 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.netty.util.concurrent.EventExecutor;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -181,25 +191,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -213,17 +204,33 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(new Supplier<Object>() {
+                @Override
+                public Object get() {
+                    return message;
+                }
+            });
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            return doSend(new Supplier<Object>() {
+                @Override
+                public Object get() {
+                    // Encode the message once for all the connections
+                    return textMessage(message);
+                }
+            });
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(new Supplier<Object>() {
+                @Override
+                public Object get() {
+                    return message;
+                }
+            });
         }
 
         @Override
@@ -236,26 +243,115 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
+        private Uni<Void> doSend(Supplier<Object> message) {
+            return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+                @Override
+                public void accept(UniEmitter<? super Void> emitter) {
+                    Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
+                    List<WebSocketConnectionBase> targets = new ArrayList<>(connections.size());
+                    for (WebSocketConnection connection : connections) {
+                        if (connection.isOpen()
+                                && (filter == null || filter.test(connection))) {
+                            targets.add((WebSocketConnectionBase) connection);
+                        }
+                    }
+                    if (targets.isEmpty()) {
+                        emitter.complete(null);
+                        return;
+                    }
+                    new Broadcast(message.get(), targets.size(), emitter).writeAll(targets);
+                }
+            });
+        }
+
+    }
+
+    /**
+     * A message written to several connections.
+     * <p>
+     * The message is encoded once and the same {@link String} or {@link Buffer} is written to all the connections. The
+     * writes are grouped by event loop, so that a broadcast sent from another thread schedules one task per event loop
+     * instead of one per connection. The results are aggregated with a counter, instead of a {@link Uni} per connection
+     * joined together.
+     */
+    private static class Broadcast {
+
+        private final Object message;
+
+        private final AtomicInteger pending;
+
+        private final UniEmitter<? super Void> emitter;
+
+        private final Queue<Throwable> failures;
+
+        Broadcast(Object message, int connections, UniEmitter<? super Void> emitter) {
+            this.message = message;
+            this.pending = new AtomicInteger(connections);
+            this.emitter = emitter;
+            this.failures = new ConcurrentLinkedQueue<>();
+        }
+
+        void writeAll(List<WebSocketConnectionBase> connections) {
+            Map<EventExecutor, List<WebSocketConnectionBase>> batches = null;
+            for (WebSocketConnectionBase connection : connections) {
+                EventExecutor eventLoop = connection.eventLoop();
+                if (eventLoop == null || eventLoop.inEventLoop()) {
+                    write(connection);
+                } else {
+                    if (batches == null) {
+                        batches = new HashMap<>();
+                    }
+                    batches.computeIfAbsent(eventLoop, k -> new ArrayList<>()).add(connection);
+                }
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+            if (batches != null) {
+                for (Entry<EventExecutor, List<WebSocketConnectionBase>> e : batches.entrySet()) {
+                    List<WebSocketConnectionBase> batch = e.getValue();
+                    try {
+                        e.getKey().execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                for (WebSocketConnectionBase connection : batch) {
+                                    write(connection);
+                                }
+                            }
+                        });
+                    } catch (RejectedExecutionException ex) {
+                        // The event loop is shutting down
+                        for (WebSocketConnectionBase connection : batch) {
+                            written(connection, ex);
+                        }
+                    }
                 }
             }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+        }
+
+        private void write(WebSocketConnectionBase connection) {
+            try {
+                connection.write(message, new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> result) {
+                        written(connection, result.cause());
+                    }
+                });
+            } catch (Throwable t) {
+                written(connection, t);
+            }
+        }
+
+        private void written(WebSocketConnectionBase connection, Throwable failure) {
+            // Intentionally ignore 'WebSocket is closed' failures
+            // It might happen that the connection is closed in the mean time
+            if (failure != null && !Endpoints.isWebSocketIsClosedFailure(failure, connection)) {
+                failures.add(failure);
+            }
+            if (pending.decrementAndGet() == 0) {
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else {
+                    emitter.fail(new CompositeException(new ArrayList<>(failures)));
+                }
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
 
     }
@@ -0,0 +1,212 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Builds a bean deployment from the given bean classes and starts the container, in the same way the ArC tests do.
+ * <p>
+ * The bean classes and the generated classes are defined by a separate class loader so that the generated classes
+ * can access the package-private members of the beans. Benchmarks should therefore only use the beans through types
+ * that are not declared in the package of the beans, for example {@link Service}.
+ */
+public final class BenchmarkContainer implements AutoCloseable {
+
+    private final Path outputDirectory;
+    private final BenchmarkClassLoader classLoader;
+    private final ArcContainer container;
+
+    private BenchmarkContainer(Path outputDirectory, BenchmarkClassLoader classLoader, ArcContainer container) {
+        this.outputDirectory = outputDirectory;
+        this.classLoader = classLoader;
+        this.container = container;
+    }
+
+    /**
+     *
+     * @param optimizeContexts whether the generated {@code ContextInstances} should be used
+     * @param beanClasses the bean classes, which must be declared in the same package
+     * @return the started container
+     */
+    public static BenchmarkContainer start(boolean optimizeContexts, Class<?>... beanClasses)
+            throws IOException, InterruptedException, ExecutionException {
+        ClassLoader parent = BenchmarkContainer.class.getClassLoader();
+        Indexer indexer = new Indexer();
+        for (Class<?> beanClass : beanClasses) {
+            try (InputStream stream = parent.getResourceAsStream(beanClass.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(indexer.complete());
+
+        Path outputDirectory = Files.createTempDirectory("arc-benchmarks");
+        File classesDirectory = outputDirectory.resolve("classes").toFile();
+        Path componentsProviderFile = outputDirectory.resolve(ComponentsProvider.class.getName());
+
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName(beanClasses[0].getSimpleName())
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(
+                        BeanArchives.buildComputingBeanArchiveIndex(parent, new ConcurrentHashMap<>(), index))
+                .setOptimizeContexts(optimizeContexts)
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(classesDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                    Files.write(componentsProviderFile, resource.getData());
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build();
+        beanProcessor.process();
+
+        BenchmarkClassLoader classLoader = new BenchmarkClassLoader(parent, beanClasses[0].getPackageName(),
+                classesDirectory.toPath(), componentsProviderFile);
+        Thread thread = Thread.currentThread();
+        ClassLoader oldTccl = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return new BenchmarkContainer(outputDirectory, classLoader, Arc.initialize());
+        } finally {
+            thread.setContextClassLoader(oldTccl);
+        }
+    }
+
+    public ArcContainer container() {
+        return container;
+    }
+
+    /**
+     *
+     * @param beanClass the bean class
+     * @return the bean class loaded by the benchmark class loader
+     */
+    public Class<?> beanClass(Class<?> beanClass) {
+        try {
+            return classLoader.loadClass(beanClass.getName());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Obtains a contextual reference of the bean with the given class. The class is loaded by the benchmark class
+     * loader.
+     *
+     * @param <T>
+     * @param beanClass the bean class
+     * @param type the type the reference is cast to
+     * @return the contextual reference
+     */
+    public <T> T instance(Class<?> beanClass, Class<T> type) {
+        return type.cast(container.instance(beanClass(beanClass)).get());
+    }
+
+    @Override
+    public void close() {
+        Arc.shutdown();
+        try (Stream<Path> files = Files.walk(outputDirectory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Defines the bean classes and the generated classes; all other classes are loaded by the parent class loader.
+     */
+    static final class BenchmarkClassLoader extends ClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        private final String beanPackagePrefix;
+        private final Path classesDirectory;
+        private final Path componentsProviderFile;
+
+        BenchmarkClassLoader(ClassLoader parent, String beanPackage, Path classesDirectory, Path componentsProviderFile) {
+            super(parent);
+            this.beanPackagePrefix = beanPackage + ".";
+            this.classesDirectory = classesDirectory;
+            this.componentsProviderFile = componentsProviderFile;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            Path generatedClass = classesDirectory.resolve(name.replace('.', '/') + ".class");
+            if (!name.startsWith(beanPackagePrefix) && !Files.exists(generatedClass)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    clazz = define(name, generatedClass);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+
+        private Class<?> define(String name, Path generatedClass) throws ClassNotFoundException {
+            try {
+                byte[] bytes;
+                if (Files.exists(generatedClass)) {
+                    bytes = Files.readAllBytes(generatedClass);
+                } else {
+                    try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (stream == null) {
+                            throw new ClassNotFoundException(name);
+                        }
+                        bytes = stream.readAllBytes();
+                    }
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (("META-INF/services/" + ComponentsProvider.class.getName()).equals(name)) {
+                return Collections.enumeration(Collections.singleton(componentsProviderFile.toUri().toURL()));
+            }
+            return super.getResources(name);
+        }
+
+    }
+
+}
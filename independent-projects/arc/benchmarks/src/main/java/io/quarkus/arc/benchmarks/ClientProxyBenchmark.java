@@ -0,0 +1,60 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.benchmarks.proxy.ProxyBeans;
+
+/**
+ * Measures the invocation of an application scoped bean through its client proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    BenchmarkContainer container;
+    Service proxy;
+    Service target;
+
+    @Setup
+    public void setup() throws Exception {
+        container = BenchmarkContainer.start(true, ProxyBeans.beanClasses());
+        proxy = container.instance(ProxyBeans.Target.class, Service.class);
+        target = (Service) ClientProxy.unwrap(proxy);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public int clientProxy() {
+        return proxy.ping();
+    }
+
+    /**
+     * The baseline: the contextual instance is invoked directly.
+     */
+    @Benchmark
+    public int unwrapped() {
+        return target.ping();
+    }
+
+}
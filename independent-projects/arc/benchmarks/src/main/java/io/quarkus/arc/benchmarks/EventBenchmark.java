@@ -0,0 +1,65 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.benchmarks.event.EventBeans;
+
+/**
+ * Measures the firing of an event with ten synchronous observers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    BenchmarkContainer container;
+    Event<Object> event;
+    Event<Payload> payloadEvent;
+
+    @Setup
+    public void setup() throws Exception {
+        container = BenchmarkContainer.start(true, EventBeans.beanClasses());
+        event = container.container().beanManager().getEvent();
+        payloadEvent = event.select(Payload.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public int fire() {
+        Payload payload = new Payload();
+        payloadEvent.fire(payload);
+        return payload.notifications();
+    }
+
+    /**
+     * The event type is selected for every event.
+     */
+    @Benchmark
+    public int selectAndFire() {
+        Payload payload = new Payload();
+        event.select(Payload.class).fire(payload);
+        return payload.notifications();
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.benchmarks.instance.InstanceBeans;
+
+/**
+ * Measures the programmatic lookup: {@code Instance.get()}, the iteration of an {@code Instance} with eight beans and
+ * the resolution performed by {@code ArcContainer.select()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBenchmark {
+
+    BenchmarkContainer container;
+    ArcContainer arc;
+    Class<?> handlerClass;
+    InjectableInstance<?> handler;
+    InjectableInstance<Service> services;
+
+    @Setup
+    public void setup() throws Exception {
+        container = BenchmarkContainer.start(true, InstanceBeans.beanClasses());
+        arc = container.container();
+        handlerClass = container.beanClass(InstanceBeans.Handler1.class);
+        handler = arc.select(handlerClass);
+        services = arc.select(Service.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public int instanceGet() {
+        return ((Service) handler.get()).ping();
+    }
+
+    @Benchmark
+    public int instanceIterate() {
+        int result = 0;
+        for (Service service : services) {
+            result += service.ping();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int select() {
+        return ((Service) arc.select(handlerClass).get()).ping();
+    }
+
+    @Benchmark
+    public int selectIterate() {
+        int result = 0;
+        for (Service service : arc.select(Service.class)) {
+            result += service.ping();
+        }
+        return result;
+    }
+
+}
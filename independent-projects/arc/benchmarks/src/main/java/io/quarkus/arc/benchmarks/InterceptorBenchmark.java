@@ -0,0 +1,64 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.benchmarks.interceptor.InterceptorBeans;
+
+/**
+ * Measures the invocation of intercepted methods, i.e. the {@code AroundInvokeInvocationContext} chain and the inner
+ * chain of an around invoke method declared on the target class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorBenchmark {
+
+    BenchmarkContainer container;
+    Service single;
+    Service triple;
+    Service self;
+
+    @Setup
+    public void setup() throws Exception {
+        container = BenchmarkContainer.start(true, InterceptorBeans.beanClasses());
+        single = container.instance(InterceptorBeans.SingleIntercepted.class, Service.class);
+        triple = container.instance(InterceptorBeans.TripleIntercepted.class, Service.class);
+        self = container.instance(InterceptorBeans.SelfIntercepted.class, Service.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public int singleInterceptor() {
+        return single.ping();
+    }
+
+    @Benchmark
+    public int threeInterceptors() {
+        return triple.ping();
+    }
+
+    @Benchmark
+    public int targetAroundInvoke() {
+        return self.ping();
+    }
+
+}
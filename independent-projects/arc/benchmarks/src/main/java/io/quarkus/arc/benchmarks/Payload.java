@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks;
+
+/**
+ * The event payload of the event benchmarks.
+ */
+public final class Payload {
+
+    private int notifications;
+
+    public void increment() {
+        notifications++;
+    }
+
+    public int notifications() {
+        return notifications;
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.request.RequestScopedBeans;
+
+/**
+ * Measures the lifecycle of the request context with an endpoint that touches eight request scoped beans.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar RequestContextBenchmark -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    @Param({ "true", "false" })
+    boolean optimizeContexts;
+
+    BenchmarkContainer container;
+    ManagedContext requestContext;
+    Service endpoint;
+
+    @Setup
+    public void setup() throws Exception {
+        container = BenchmarkContainer.start(optimizeContexts, RequestScopedBeans.beanClasses());
+        requestContext = container.container().requestContext();
+        endpoint = container.instance(RequestScopedBeans.Endpoint.class, Service.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    /**
+     * Activates and destroys an empty request context.
+     */
+    @Benchmark
+    public void activateDestroy() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    /**
+     * Activates a request context, creates the request scoped beans and destroys them.
+     */
+    @Benchmark
+    public int activateLookupDestroy() {
+        requestContext.activate();
+        try {
+            return endpoint.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    /**
+     * Invokes the request scoped beans that already exist in the active request context.
+     */
+    @Benchmark
+    public int lookup(ActiveRequest request) {
+        return endpoint.ping();
+    }
+
+    @State(Scope.Thread)
+    public static class ActiveRequest {
+
+        ManagedContext requestContext;
+
+        @Setup(Level.Iteration)
+        public void activate(RequestContextBenchmark benchmark) {
+            requestContext = benchmark.requestContext;
+            requestContext.activate();
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminate() {
+            requestContext.terminate();
+        }
+
+    }
+
+}
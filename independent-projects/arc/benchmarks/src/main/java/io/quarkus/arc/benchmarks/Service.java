@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmarks;
+
+/**
+ * The type through which the benchmarks invoke the beans.
+ *
+ * @see BenchmarkContainer
+ */
+public interface Service {
+
+    int ping();
+
+}
@@ -0,0 +1,69 @@
+package io.quarkus.arc.benchmarks.event;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.benchmarks.Payload;
+
+/**
+ * Ten synchronous observers of {@link Payload} declared on two beans.
+ */
+public final class EventBeans {
+
+    private EventBeans() {
+    }
+
+    public static Class<?>[] beanClasses() {
+        return new Class<?>[] { Observers1.class, Observers2.class };
+    }
+
+    @Singleton
+    public static class Observers1 {
+
+        void onPayload1(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload2(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload3(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload4(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload5(@Observes Payload payload) {
+            payload.increment();
+        }
+
+    }
+
+    @Singleton
+    public static class Observers2 {
+
+        void onPayload6(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload7(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload8(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload9(@Observes Payload payload) {
+            payload.increment();
+        }
+
+        void onPayload10(@Observes Payload payload) {
+            payload.increment();
+        }
+
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.arc.benchmarks.instance;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.benchmarks.Service;
+
+/**
+ * Eight beans that implement {@link Service}.
+ */
+public final class InstanceBeans {
+
+    private InstanceBeans() {
+    }
+
+    public static Class<?>[] beanClasses() {
+        return new Class<?>[] { Handler1.class, Handler2.class, Handler3.class, Handler4.class, Handler5.class,
+                Handler6.class, Handler7.class, Handler8.class };
+    }
+
+    @Singleton
+    public static class Handler1 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler2 implements Service {
+
+        @Override
+        public int ping() {
+            return 2;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler3 implements Service {
+
+        @Override
+        public int ping() {
+            return 3;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler4 implements Service {
+
+        @Override
+        public int ping() {
+            return 4;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler5 implements Service {
+
+        @Override
+        public int ping() {
+            return 5;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler6 implements Service {
+
+        @Override
+        public int ping() {
+            return 6;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler7 implements Service {
+
+        @Override
+        public int ping() {
+            return 7;
+        }
+
+    }
+
+    @Singleton
+    public static class Handler8 implements Service {
+
+        @Override
+        public int ping() {
+            return 8;
+        }
+
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkus.arc.benchmarks.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.benchmarks.Service;
+
+/**
+ * Beans with interceptor chains of different lengths. The beans are {@link Singleton} so that the invocation does not
+ * go through a client proxy.
+ */
+public final class InterceptorBeans {
+
+    private InterceptorBeans() {
+    }
+
+    public static Class<?>[] beanClasses() {
+        return new Class<?>[] { SingleIntercepted.class, TripleIntercepted.class, SelfIntercepted.class, Single.class,
+                Triple.class, SingleInterceptor.class, TripleInterceptor1.class, TripleInterceptor2.class,
+                TripleInterceptor3.class };
+    }
+
+    @Singleton
+    public static class SingleIntercepted implements Service {
+
+        @Single
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Singleton
+    public static class TripleIntercepted implements Service {
+
+        @Triple
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    /**
+     * Declares an around invoke method and is bound to an interceptor, which results in an inner invocation chain.
+     */
+    @Single
+    @Singleton
+    public static class SelfIntercepted implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return (int) ctx.proceed() + 1;
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    public @interface Single {
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    public @interface Triple {
+    }
+
+    @Single
+    @Priority(1)
+    @Interceptor
+    public static class SingleInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return (int) ctx.proceed() + 1;
+        }
+
+    }
+
+    @Triple
+    @Priority(1)
+    @Interceptor
+    public static class TripleInterceptor1 {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return (int) ctx.proceed() + 1;
+        }
+
+    }
+
+    @Triple
+    @Priority(2)
+    @Interceptor
+    public static class TripleInterceptor2 {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return (int) ctx.proceed() + 1;
+        }
+
+    }
+
+    @Triple
+    @Priority(3)
+    @Interceptor
+    public static class TripleInterceptor3 {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return (int) ctx.proceed() + 1;
+        }
+
+    }
+
+}
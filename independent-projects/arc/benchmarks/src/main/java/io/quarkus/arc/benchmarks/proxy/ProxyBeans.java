@@ -0,0 +1,28 @@
+package io.quarkus.arc.benchmarks.proxy;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.benchmarks.Service;
+
+public final class ProxyBeans {
+
+    private ProxyBeans() {
+    }
+
+    public static Class<?>[] beanClasses() {
+        return new Class<?>[] { Target.class };
+    }
+
+    @ApplicationScoped
+    public static class Target implements Service {
+
+        private int counter;
+
+        @Override
+        public int ping() {
+            return ++counter;
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package io.quarkus.arc.benchmarks.request;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.benchmarks.Service;
+
+/**
+ * An endpoint that touches eight request scoped beans through their client proxies.
+ */
+public final class RequestScopedBeans {
+
+    private RequestScopedBeans() {
+    }
+
+    public static Class<?>[] beanClasses() {
+        return new Class<?>[] { Endpoint.class, Bean1.class, Bean2.class, Bean3.class, Bean4.class, Bean5.class,
+                Bean6.class, Bean7.class, Bean8.class };
+    }
+
+    @ApplicationScoped
+    public static class Endpoint implements Service {
+
+        @Inject
+        Bean1 bean1;
+
+        @Inject
+        Bean2 bean2;
+
+        @Inject
+        Bean3 bean3;
+
+        @Inject
+        Bean4 bean4;
+
+        @Inject
+        Bean5 bean5;
+
+        @Inject
+        Bean6 bean6;
+
+        @Inject
+        Bean7 bean7;
+
+        @Inject
+        Bean8 bean8;
+
+        @Override
+        public int ping() {
+            return bean1.ping() + bean2.ping() + bean3.ping() + bean4.ping() + bean5.ping() + bean6.ping() + bean7.ping()
+                    + bean8.ping();
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean1 implements Service {
+
+        @Override
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean2 implements Service {
+
+        @Override
+        public int ping() {
+            return 2;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean3 implements Service {
+
+        @Override
+        public int ping() {
+            return 3;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean4 implements Service {
+
+        @Override
+        public int ping() {
+            return 4;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean5 implements Service {
+
+        @Override
+        public int ping() {
+            return 5;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean6 implements Service {
+
+        @Override
+        public int ping() {
+            return 6;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean7 implements Service {
+
+        @Override
+        public int ping() {
+            return 7;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Bean8 implements Service {
+
+        @Override
+        public int ping() {
+            return 8;
+        }
+
+    }
+}
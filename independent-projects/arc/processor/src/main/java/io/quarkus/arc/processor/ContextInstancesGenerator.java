@@ -12,19 +12,16 @@
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.impl.ContextInstanceSlots;
 import io.quarkus.arc.impl.ContextInstances;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo2.Const;
-import io.quarkus.gizmo2.Expr;
-import io.quarkus.gizmo2.FieldVar;
 import io.quarkus.gizmo2.Gizmo;
 import io.quarkus.gizmo2.LocalVar;
 import io.quarkus.gizmo2.ParamVar;
@@ -37,6 +34,14 @@ public class ContextInstancesGenerator extends AbstractGenerator {
 
     static final String CONTEXT_INSTANCES_SUFFIX = "_ContextInstances";
 
+    private static final MethodDesc SLOTS_GET_IF_PRESENT = MethodDesc.of(ContextInstanceSlots.class, "getIfPresent",
+            ContextInstanceHandle.class, Object.class);
+    private static final MethodDesc SLOTS_COMPUTE_IF_ABSENT = MethodDesc.of(ContextInstanceSlots.class,
+            "computeIfAbsent", ContextInstanceHandle.class, AtomicReferenceFieldUpdater.class, Object.class,
+            Supplier.class);
+    private static final MethodDesc SLOTS_REMOVE = MethodDesc.of(ContextInstanceSlots.class, "remove",
+            ContextInstanceHandle.class, AtomicReferenceFieldUpdater.class, Object.class);
+
     private final BeanDeployment beanDeployment;
     private final Map<DotName, String> scopeToGeneratedName;
 
@@ -83,85 +88,39 @@ private void createContextInstances(Gizmo gizmo, DotName scope) {
                 String beanIdx = "" + fieldIndex++;
 
                 // add these fields for each bean:
-                // - `private volatile ContextInstanceHandle h<idx>`
-                // - `private volatile Lock l<idx>`
-                // - `private static final AtomicReferenceFieldUpdater<ContextInstances, ContextInstanceHandle> L<idx>_UPDATER`
+                // - `private volatile Object h<idx>`
+                // - `private static final AtomicReferenceFieldUpdater<ContextInstances, Object> H<idx>_UPDATER`
+                // the slot holds either the ContextInstanceHandle or a marker of the instance being created,
+                // see ContextInstanceSlots
                 FieldDesc handleField = cc.field("h" + beanIdx, fc -> {
                     fc.private_();
                     fc.volatile_();
-                    fc.setType(ContextInstanceHandle.class);
+                    fc.setType(Object.class);
                 });
-                FieldDesc lockField = cc.field("l" + beanIdx, fc -> {
-                    fc.private_();
-                    fc.volatile_();
-                    fc.setType(Lock.class);
-                });
-                StaticFieldVar lockUpdaterField = cc.staticField("L" + beanIdx + "_UPDATER", fc -> {
+                StaticFieldVar updaterField = cc.staticField("H" + beanIdx + "_UPDATER", fc -> {
                     fc.private_();
                     fc.final_();
                     fc.setType(AtomicReferenceFieldUpdater.class);
                     fc.setInitializer(bc -> {
-                        bc.yield(bc.invokeStatic(newUpdater, Const.of(cc.type()), Const.of(Lock.class),
-                                Const.of("l" + beanIdx)));
+                        bc.yield(bc.invokeStatic(newUpdater, Const.of(cc.type()), Const.of(Object.class),
+                                Const.of("h" + beanIdx)));
                     });
                 });
 
-                beanFields.put(bean.getIdentifier(), new BeanFields(handleField, lockField, lockUpdaterField));
+                beanFields.put(bean.getIdentifier(), new BeanFields(handleField, updaterField));
             }
 
             cc.defaultConstructor();
 
-            Map<String, MethodDesc> lazyLocks = generateLazyLocks(cc, beanFields);
-            generateComputeIfAbsent(cc, beanFields, lazyLocks);
+            generateComputeIfAbsent(cc, beanFields);
             generateGetIfPresent(cc, beanFields);
             generateGetAllPresent(cc, beanFields);
-            List<MethodDesc> remove = generateRemove(cc, beanFields, lazyLocks);
+            List<MethodDesc> remove = generateRemove(cc, beanFields);
             generateRemoveEach(cc, remove);
         });
     }
 
-    private Map<String, MethodDesc> generateLazyLocks(ClassCreator cc, Map<String, BeanFields> beanFields) {
-        MethodDesc updaterCas = MethodDesc.of(AtomicReferenceFieldUpdater.class, "compareAndSet",
-                boolean.class, Object.class, Object.class, Object.class);
-
-        Map<String, MethodDesc> result = new HashMap<>(beanFields.size());
-        for (Map.Entry<String, BeanFields> namedFields : beanFields.entrySet()) {
-            String beanId = namedFields.getKey();
-            BeanFields fields = namedFields.getValue();
-            // private Lock lazyl<idx>() {
-            //   if (this.l<idx> != null) {
-            //     return this.l<idx>;
-            //   }
-            //   Lock newLock = new ReentrantLock();
-            //   if (L<idx>_UPDATER.compareAndSet(this, null, newLock)) {
-            //       return newLock;
-            //   }
-            //   return this.l<idx>;
-            // }
-            MethodDesc desc = cc.method("lazy" + fields.lock().name(), mc -> {
-                mc.private_();
-                mc.returning(Lock.class);
-                mc.body(b0 -> {
-                    FieldVar lock = cc.this_().field(fields.lock());
-                    b0.ifNotNull(lock, b1 -> {
-                        b1.return_(lock);
-                    });
-                    LocalVar newLock = b0.localVar("newLock", b0.new_(ReentrantLock.class));
-                    Expr casResult = b0.invokeVirtual(updaterCas, fields.lockUpdater(),
-                            cc.this_(), Const.ofNull(Lock.class), newLock);
-                    b0.if_(casResult, b1 -> {
-                        b1.return_(newLock);
-                    });
-                    b0.return_(lock);
-                });
-            });
-            result.put(beanId, desc);
-        }
-        return result;
-    }
-
-    private void generateComputeIfAbsent(ClassCreator cc, Map<String, BeanFields> beanFields,
-            Map<String, MethodDesc> lazyLocks) {
+    private void generateComputeIfAbsent(ClassCreator cc, Map<String, BeanFields> beanFields) {
         Map<String, MethodDesc> computeMethodsByBean = new HashMap<>();
         for (Map.Entry<String, BeanFields> idToFields : beanFields.entrySet()) {
             String beanId = idToFields.getKey();
@@ -171,37 +130,17 @@ private void generateComputeIfAbsent(ClassCreator cc, Map<String, BeanFields> be
                 mc.returning(ContextInstanceHandle.class);
                 ParamVar supplier = mc.parameter("supplier", Supplier.class);
                 mc.body(b0 -> {
-                    // ContextInstanceHandle<?> copy = this.h<idx>;
+                    // ContextInstanceHandle<?> copy = ContextInstanceSlots.getIfPresent(this.h<idx>);
                     // if (copy != null) {
                     //    return copy;
                     // }
-                    // Lock lock = lazyl<idx>();
-                    // lock.lock();
-                    // try {
-                    //   copy = this.h<idx>;
-                    //   if (copy != null) {
-                    //      return copy;
-                    //   }
-                    //   copy = supplier.get();
-                    //   this.h<idx> = copy;
-                    //   return copy;
-                    // } finally {
-                    //   lock.unlock();
-                    // }
-                    LocalVar copy = b0.localVar("copy", cc.this_().field(fields.instance()));
+                    // return ContextInstanceSlots.computeIfAbsent(H<idx>_UPDATER, this, supplier);
+                    LocalVar copy = b0.localVar("copy", b0.invokeStatic(SLOTS_GET_IF_PRESENT,
+                            cc.this_().field(fields.instance())));
                     b0.ifNotNull(copy, b1 -> {
                         b1.return_(copy);
                     });
-                    LocalVar lock = b0.localVar("lock", b0.invokeVirtual(lazyLocks.get(beanId), cc.this_()));
-                    b0.locked(lock, b1 -> {
-                        b1.set(copy, cc.this_().field(fields.instance()));
-                        b1.ifNotNull(copy, b2 -> {
-                            b2.return_(copy);
-                        });
-                        b1.set(copy, b1.invokeInterface(MethodDescs.SUPPLIER_GET, supplier));
-                        b1.set(cc.this_().field(fields.instance()), copy);
-                        b1.return_(copy);
-                    });
+                    b0.return_(b0.invokeStatic(SLOTS_COMPUTE_IF_ABSENT, fields.updater(), cc.this_(), supplier));
                 });
             });
             computeMethodsByBean.put(beanId, desc);
@@ -236,7 +175,7 @@ private void generateGetIfPresent(ClassCreator cc, Map<String, BeanFields> beanF
                         String btBeanId = idToFields.getKey();
                         BeanFields fields = idToFields.getValue();
                         sc.caseOf(btBeanId, b1 -> {
-                            b1.yield(cc.this_().field(fields.instance()));
+                            b1.yield(b1.invokeStatic(SLOTS_GET_IF_PRESENT, cc.this_().field(fields.instance())));
                         });
                     }
                     sc.default_(b1 -> {
@@ -251,7 +190,7 @@ private void generateGetAllPresent(ClassCreator cc, Map<String, BeanFields> bean
         cc.method("getAllPresent", mc -> {
             mc.returning(Set.class);
             mc.body(b0 -> {
-                // ContextInstanceHandle<?> h<idx> = this.h<idx>;
+                // ContextInstanceHandle<?> h<idx> = ContextInstanceSlots.getIfPresent(this.h<idx>);
                 // Set<ContextInstanceHandle<?>> result = new HashSet<>();
                 // if (h<idx> != null) {
                 //    result.add(h<idx>);
@@ -259,7 +198,8 @@ private void generateGetAllPresent(ClassCreator cc, Map<String, BeanFields> bean
                 // return result;
                 List<LocalVar> handles = new ArrayList<>(beanFields.size());
                 for (BeanFields fields : beanFields.values()) {
-                    handles.add(b0.localVar(cc.this_().field(fields.instance)));
+                    handles.add(b0.localVar(fields.instance().name(),
+                            b0.invokeStatic(SLOTS_GET_IF_PRESENT, cc.this_().field(fields.instance()))));
                 }
                 LocalVar result = b0.localVar("result", b0.new_(HashSet.class));
                 for (LocalVar handle : handles) {
@@ -272,8 +212,7 @@ private void generateGetAllPresent(ClassCreator cc, Map<String, BeanFields> bean
         });
     }
 
-    private List<MethodDesc> generateRemove(ClassCreator cc, Map<String, BeanFields> beanFields,
-            Map<String, MethodDesc> lazyLocks) {
+    private List<MethodDesc> generateRemove(ClassCreator cc, Map<String, BeanFields> beanFields) {
 
         // There is a separate remove method for every instance handle field
         // To eliminate large stack map table in the bytecode
@@ -286,29 +225,14 @@ private List<MethodDesc> generateRemove(ClassCreator cc, Map<String, BeanFields>
             MethodDesc desc = cc.method("r" + instanceField.name(), mc -> {
                 mc.returning(ContextInstanceHandle.class);
                 mc.body(b0 -> {
-                    // ContextInstanceHandle<?> copy = this.h<idx>;
-                    // if (copy == null) {
+                    // if (this.h<idx> == null) {
                     //   return null;
                     // }
-                    // Lock lock = lazyl<idx>();
-                    // lock.lock();
-                    // try {
-                    //   copy = this.h<idx>;
-                    //   this.h<idx> = null;
-                    // } finally {
-                    //   lock.unlock();
-                    // }
-                    // return copy;
-                    LocalVar copy = b0.localVar("copy", cc.this_().field(instanceField));
-                    b0.ifNull(copy, b1 -> {
+                    // return ContextInstanceSlots.remove(H<idx>_UPDATER, this);
+                    b0.ifNull(cc.this_().field(instanceField), b1 -> {
                         b1.return_(Const.ofNull(ContextInstanceHandle.class));
                     });
-                    LocalVar lock = b0.localVar("lock", b0.invokeVirtual(lazyLocks.get(beanId), cc.this_()));
-                    b0.locked(lock, b1 -> {
-                        b1.set(copy, cc.this_().field(instanceField));
-                        b1.set(cc.this_().field(instanceField), Const.ofNull(ContextInstanceHandle.class));
-                    });
-                    b0.return_(copy);
+                    b0.return_(b0.invokeStatic(SLOTS_REMOVE, fields.updater(), cc.this_()));
                 });
             });
             removeMethods.add(desc);
@@ -365,6 +289,6 @@ private void generateRemoveEach(ClassCreator cc, List<MethodDesc> removeInstance
         });
     }
 
-    record BeanFields(FieldDesc instance, FieldDesc lock, StaticFieldVar lockUpdater) {
+    record BeanFields(FieldDesc instance, StaticFieldVar updater) {
     }
 }
@@ -0,0 +1,39 @@
+package io.quarkus.arc;
+
+/**
+ * The mode in which the asynchronous observers of an event are notified.
+ * <p>
+ * The mode is selected with the {@link #OPTION} notification option, the value can be either the enum constant or its
+ * name:
+ *
+ * <pre>
+ * event.fireAsync(payload, NotificationOptions.builder()
+ *         .set(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL)
+ *         .setExecutor(Executors.newVirtualThreadPerTaskExecutor())
+ *         .build());
+ * </pre>
+ *
+ * @see jakarta.enterprise.event.Event#fireAsync(Object, jakarta.enterprise.event.NotificationOptions)
+ */
+public enum AsyncNotificationMode {
+
+    /**
+     * The observers are notified one after another in a single task. This is the default mode.
+     */
+    SERIAL,
+
+    /**
+     * Each observer is notified in a separate task submitted to the executor.
+     * <p>
+     * The observer priority is still respected: observers with the same priority are notified in parallel and the
+     * observers with the next priority are only notified when all the previous ones have completed. Therefore, the
+     * observers that do not declare any priority are all notified in parallel.
+     */
+    PARALLEL;
+
+    /**
+     * The name of the notification option.
+     */
+    public static final String OPTION = "io.quarkus.arc.async-notification-mode";
+
+}
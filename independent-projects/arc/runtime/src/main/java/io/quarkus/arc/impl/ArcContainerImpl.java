@@ -80,6 +80,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final int MAX_CACHED_OBSERVER_RESOLUTIONS = 1024;
 
     private final String id;
 
@@ -95,6 +96,7 @@ public class ArcContainerImpl implements ArcContainer {
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<TypeAndQualifiers, List<InjectableObserverMethod<?>>> resolvedObservers;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
 
@@ -172,6 +174,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
 
         resolved = new ComputingCache<>(this::resolve);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -481,6 +484,7 @@ public synchronized void shutdown() {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            resolvedObservers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
             if (eventMocks != null) {
@@ -513,7 +517,8 @@ public List<InjectableObserverMethod<?>> getObservers() {
 
     @Override
     public <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventType, Annotation... eventQualifiers) {
-        return resolveObserverMethods(eventType, Set.of(eventQualifiers));
+        // The resolved list is shared, the caller gets its own copy
+        return new ArrayList<>(resolveObserverMethods(eventType, Set.of(eventQualifiers)));
     }
 
     InstanceHandle<Object> getResource(Type type, Set<Annotation> annotations) {
@@ -869,6 +874,9 @@ private static int compareDefaultBeans(InjectableBean<?> bean1, InjectableBean<?
         return priority2.compareTo(priority1);
     }
 
+    /**
+     * Unlike {@link #resolveObserverMethods(Type, Annotation...)}, the returned list is immutable and may be shared.
+     */
     @SuppressWarnings("unchecked")
     <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventType,
             Set<Annotation> eventQualifiers) {
@@ -876,19 +884,31 @@ <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventT
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        // The resolution is cached because it's performed for every event type and set of qualifiers
+        // However, the event types are only known at runtime and so the number of cached resolutions is limited
+        TypeAndQualifiers key = new TypeAndQualifiers(eventType, Set.copyOf(eventQualifiers));
+        List<?> resolved = resolvedObservers.getValueIfPresent(key);
+        if (resolved == null) {
+            resolved = resolvedObservers.size() < MAX_CACHED_OBSERVER_RESOLUTIONS ? resolvedObservers.getValue(key)
+                    : resolveObservers(key);
+        }
+        return (List<InjectableObserverMethod<? super T>>) resolved;
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(TypeAndQualifiers typeAndQualifiers) {
+        Set<Type> eventTypes = new HierarchyDiscovery(typeAndQualifiers.requiredType()).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || registeredQualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || registeredQualifiers.isSubset(observer.getObservedQualifiers(), typeAndQualifiers.qualifiers())) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
         // Observers with smaller priority values are called first
         Collections.sort(resolvedObservers);
-        return resolvedObservers;
+        return List.copyOf(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -109,4 +109,8 @@ public boolean isEmpty() {
         return map.isEmpty();
     }
 
+    public int size() {
+        return map.size();
+    }
+
 }
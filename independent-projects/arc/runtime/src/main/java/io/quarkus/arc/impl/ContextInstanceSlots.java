@@ -0,0 +1,157 @@
+package io.quarkus.arc.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Operations on the per-bean slots of the generated {@link ContextInstances}.
+ * <p>
+ * A slot is a volatile field that holds either {@code null}, the {@link ContextInstanceHandle} of the bean, or a marker
+ * of an instance that is being created. The marker is the creating {@link Thread} itself, so that no lock needs to be
+ * allocated if there is no contention. A thread that needs to wait for the creation replaces the marker with a
+ * {@link Creation} object that the creating thread signals once the handle is set.
+ * <p>
+ * This class is used by the generated code and is not part of the public API.
+ */
+public final class ContextInstanceSlots {
+
+    private ContextInstanceSlots() {
+    }
+
+    /**
+     *
+     * @param value the current value of a slot
+     * @return the instance handle if present, {@code null} otherwise
+     */
+    public static ContextInstanceHandle<?> getIfPresent(Object value) {
+        return value instanceof ContextInstanceHandle<?> handle ? handle : null;
+    }
+
+    /**
+     *
+     * @param <T>
+     * @param updater the updater of the slot
+     * @param instances the context instances
+     * @param supplier
+     * @return the instance handle
+     */
+    public static <T> ContextInstanceHandle<?> computeIfAbsent(AtomicReferenceFieldUpdater<T, Object> updater,
+            T instances, Supplier<ContextInstanceHandle<?>> supplier) {
+        Thread current = Thread.currentThread();
+        for (;;) {
+            Object value = updater.get(instances);
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                return handle;
+            }
+            if (value == null) {
+                if (updater.compareAndSet(instances, null, current)) {
+                    return create(updater, instances, supplier);
+                }
+            } else if (creator(value) == current) {
+                // The instance is requested during its own creation, e.g. from a @PostConstruct callback
+                // A new instance is created but only the outer one is stored in the slot
+                return supplier.get();
+            } else {
+                awaitCreation(updater, instances, value);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param <T>
+     * @param updater the updater of the slot
+     * @param instances the context instances
+     * @return the removed instance handle, or {@code null}
+     */
+    public static <T> ContextInstanceHandle<?> remove(AtomicReferenceFieldUpdater<T, Object> updater, T instances) {
+        for (;;) {
+            Object value = updater.get(instances);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                if (updater.compareAndSet(instances, handle, null)) {
+                    return handle;
+                }
+            } else if (creator(value) == Thread.currentThread()) {
+                // Removed during its own creation; there is nothing to remove yet
+                return null;
+            } else {
+                // Wait until the instance is created so that it can be destroyed
+                awaitCreation(updater, instances, value);
+            }
+        }
+    }
+
+    private static <T> ContextInstanceHandle<?> create(AtomicReferenceFieldUpdater<T, Object> updater, T instances,
+            Supplier<ContextInstanceHandle<?>> supplier) {
+        ContextInstanceHandle<?> handle = null;
+        try {
+            handle = supplier.get();
+            return handle;
+        } finally {
+            // If the creation fails then the slot is released and a waiting thread may try again
+            Object previous = updater.getAndSet(instances, handle);
+            if (previous instanceof Creation creation) {
+                creation.signalAll();
+            }
+        }
+    }
+
+    private static <T> void awaitCreation(AtomicReferenceFieldUpdater<T, Object> updater, T instances, Object value) {
+        Creation creation;
+        if (value instanceof Creation c) {
+            creation = c;
+        } else {
+            creation = new Creation((Thread) value);
+            if (!updater.compareAndSet(instances, value, creation)) {
+                // The instance was created in the meantime
+                return;
+            }
+        }
+        creation.lock.lock();
+        try {
+            while (updater.get(instances) == creation) {
+                creation.created.awaitUninterruptibly();
+            }
+        } finally {
+            creation.lock.unlock();
+        }
+    }
+
+    private static Thread creator(Object value) {
+        return value instanceof Creation creation ? creation.creator : (Thread) value;
+    }
+
+    /**
+     * Replaces the creating thread in a slot if there are other threads waiting for the instance.
+     */
+    private static final class Creation {
+
+        private final Thread creator;
+        private final ReentrantLock lock;
+        private final Condition created;
+
+        Creation(Thread creator) {
+            this.creator = creator;
+            this.lock = new ReentrantLock();
+            this.created = lock.newCondition();
+        }
+
+        void signalAll() {
+            lock.lock();
+            try {
+                created.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
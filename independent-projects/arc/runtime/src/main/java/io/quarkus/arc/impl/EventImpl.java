@@ -11,6 +11,7 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -42,6 +43,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
@@ -57,19 +59,19 @@
     private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
     private final InjectionPoint injectionPoint;
 
     private transient volatile Notifier<? super T> lastNotifier;
+    // only needed to resolve type variables of the event type
+    private transient volatile HierarchyDiscovery injectionPointTypeHierarchy;
 
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint) {
         this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = Set.copyOf(qualifiers);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
         this.injectionPoint = injectionPoint;
@@ -102,6 +104,21 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (asyncNotificationMode(options) == AsyncNotificationMode.PARALLEL) {
+            ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                    Collections.synchronizedList(new ArrayList<>()),
+                    Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get());
+            CompletableFuture<U> completableFuture = notifier.notifyParallel(event, exceptionHandler, executor)
+                    .thenApply(new Function<Void, U>() {
+                        @Override
+                        public U apply(Void ignored) {
+                            handleExceptions(exceptionHandler);
+                            return event;
+                        }
+                    });
+            return new AsyncEventDeliveryStage<>(completableFuture, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -118,6 +135,17 @@ public U get() {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private static AsyncNotificationMode asyncNotificationMode(NotificationOptions options) {
+        Object value = options.get(AsyncNotificationMode.OPTION);
+        if (value == null) {
+            return AsyncNotificationMode.SERIAL;
+        }
+        if (value instanceof AsyncNotificationMode mode) {
+            return mode;
+        }
+        return AsyncNotificationMode.valueOf(value.toString().toUpperCase(Locale.ROOT));
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -186,7 +214,7 @@ static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<
         }
         normalizedQualifiers.add(Any.Literal.INSTANCE);
         EventMetadata metadata = new EventMetadataImpl(normalizedQualifiers, eventType, injectionPoint);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
+        List<ObserverMethod<? super T>> notifierObserverMethods = List.copyOf(
                 container.resolveObserverMethods(eventType, normalizedQualifiers));
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
@@ -209,7 +237,7 @@ private Type getEventType(Class<?> runtimeType) {
              * infer the parameterized type of
              * the event types.
              */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+            resolvedType = injectionPointTypeHierarchy().resolveType(resolvedType);
         }
         if (Types.containsTypeVariable(resolvedType)) {
             /*
@@ -219,7 +247,7 @@ private Type getEventType(Class<?> runtimeType) {
              */
             Type canonicalEventType = Types.getCanonicalType(runtimeType);
             TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
-                    injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
+                    injectionPointTypeHierarchy().getResolver().getResolvedTypeVariables(),
                     new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
             resolvedType = objectTypeResolver.resolveType(canonicalEventType);
         }
@@ -234,6 +262,15 @@ private Type getEventType(Class<?> runtimeType) {
         return resolvedType;
     }
 
+    private HierarchyDiscovery injectionPointTypeHierarchy() {
+        HierarchyDiscovery hierarchy = this.injectionPointTypeHierarchy;
+        if (hierarchy == null) {
+            hierarchy = new HierarchyDiscovery(eventType);
+            this.injectionPointTypeHierarchy = hierarchy;
+        }
+        return hierarchy;
+    }
+
     private void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
@@ -371,6 +408,55 @@ private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
             }
         }
 
+        /**
+         * Notifies the async observers in parallel. Each observer is notified in a separate task, observers with a
+         * lower priority are only notified once all observers with a higher priority have completed.
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        CompletableFuture<Void> notifyParallel(T event, ObserverExceptionHandler exceptionHandler, Executor executor) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+            List<CompletableFuture<Void>> group = new ArrayList<>();
+            int groupPriority = 0;
+            // observer methods are sorted by priority
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (!observerMethod.isAsync()) {
+                    continue;
+                }
+                if (!group.isEmpty() && observerMethod.getPriority() != groupPriority) {
+                    previous = CompletableFuture.allOf(group.toArray(new CompletableFuture[0]));
+                    group.clear();
+                }
+                groupPriority = observerMethod.getPriority();
+                group.add(previous.thenRunAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        notifyObserver(observerMethod, eventContext, exceptionHandler);
+                    }
+                }, executor));
+            }
+            return group.isEmpty() ? previous : CompletableFuture.allOf(group.toArray(new CompletableFuture[0]));
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notifyObserver(ObserverMethod observerMethod, EventContext eventContext,
+                ObserverExceptionHandler exceptionHandler) {
+            ManagedContext requestContext = activateRequestContext ? Arc.requireContainer().requestContext() : null;
+            boolean activated = requestContext != null && !requestContext.isActive();
+            if (activated) {
+                requestContext.activate();
+            }
+            try {
+                observerMethod.notify(eventContext);
+            } catch (Throwable t) {
+                exceptionHandler.handle(t, observerMethod, eventContext);
+            } finally {
+                if (activated) {
+                    requestContext.terminate();
+                }
+            }
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
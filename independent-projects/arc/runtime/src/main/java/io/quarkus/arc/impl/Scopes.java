@@ -1,5 +1,7 @@
 package io.quarkus.arc.impl;
 
+import java.lang.annotation.Annotation;
+
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 
@@ -9,7 +11,10 @@ private Scopes() {
     }
 
     static boolean scopeMatches(InjectableContext context, InjectableBean<?> bean) {
-        return context.getScope().getName().equals(bean.getScope().getName());
+        Class<? extends Annotation> scope = context.getScope();
+        Class<? extends Annotation> beanScope = bean.getScope();
+        // The classes are identical unless the bean and the context were loaded by different class loaders
+        return scope == beanScope || scope.getName().equals(beanScope.getName());
     }
 
     static IllegalArgumentException scopeDoesNotMatchException(InjectableContext context, InjectableBean<?> bean) {
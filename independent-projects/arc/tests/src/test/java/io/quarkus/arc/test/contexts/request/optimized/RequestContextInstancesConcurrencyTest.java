@@ -0,0 +1,133 @@
+package io.quarkus.arc.test.contexts.request.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class RequestContextInstancesConcurrencyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Slow.class, Failing.class)
+            .optimizeContexts(true)
+            .build();
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        ContextState state = requestContext.activate();
+        Slow.CREATED.set(0);
+        Slow.latch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    requestContext.activate(state);
+                    try {
+                        return container.instance(Slow.class).get().getId();
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                }));
+            }
+            // Let the other threads wait for the creation of the instance
+            assertTrue(Slow.creating.await(2, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            Slow.latch.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(2, TimeUnit.SECONDS));
+            }
+            assertEquals(1, Slow.CREATED.get());
+            assertEquals(1, container.instance(Slow.class).get().getId());
+        } finally {
+            executor.shutdownNow();
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testFailedCreation() {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        requestContext.activate();
+        try {
+            Failing.attempts.set(0);
+            Failing failing = container.instance(Failing.class).get();
+            assertThrows(IllegalStateException.class, failing::ping);
+            // The slot was released and the instance is created again
+            assertEquals(2, failing.ping());
+            assertEquals(1, container.getActiveContext(RequestScoped.class).getState().getContextualInstances().size());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        static volatile CountDownLatch creating = new CountDownLatch(1);
+
+        static volatile CountDownLatch latch;
+
+        private int id;
+
+        int getId() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            id = CREATED.incrementAndGet();
+            creating.countDown();
+            latch.await(2, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @RequestScoped
+    public static class Failing {
+
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        private int attempt;
+
+        int ping() {
+            return attempt;
+        }
+
+        @PostConstruct
+        void init() {
+            attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                throw new IllegalStateException("First attempt fails");
+            }
+        }
+
+    }
+}
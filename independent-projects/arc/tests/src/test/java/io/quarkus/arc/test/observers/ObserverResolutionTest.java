@@ -0,0 +1,49 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringObserver.class);
+
+    @Test
+    public void testResolvedObserversAreMutable() {
+        List<InjectableObserverMethod<? super String>> observers = Arc.container().resolveObserverMethods(String.class);
+        assertEquals(1, observers.size());
+        observers.clear();
+        // the resolution is cached but the list is not shared
+        assertEquals(1, Arc.container().resolveObserverMethods(String.class).size());
+    }
+
+    @Test
+    public void testManyQualifiers() {
+        // more distinct sets of qualifiers than the cached resolutions
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(1, Arc.container().resolveObserverMethods(String.class, NamedLiteral.of("name" + i)).size());
+        }
+        assertEquals(1, Arc.container().resolveObserverMethods(String.class, NamedLiteral.of("name0")).size());
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        void observe(@Observes String value) {
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Observers.class, RequestScopedCounter.class);
+
+    @Test
+    public void testParallelNotification() throws Exception {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            NotificationOptions options = NotificationOptions.builder()
+                    .set(AsyncNotificationMode.OPTION, AsyncNotificationMode.PARALLEL)
+                    .setExecutor(executor)
+                    .build();
+            Ping ping = new Ping(false);
+            // the observers without priority await each other and would time out if notified serially
+            assertEquals(ping, event.fireAsync(ping, options).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            List<String> events = observers.events;
+            assertEquals(5, events.size());
+            assertEquals("first", events.get(0));
+            assertTrue(events.subList(1, 4).containsAll(List.of("parallel1", "parallel2", "parallel3")));
+            assertEquals("last", events.get(4));
+        }
+    }
+
+    @Test
+    public void testExceptionHandling() throws Exception {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        Event<Ping> event = Arc.container().beanManager().getEvent().select(Ping.class);
+        NotificationOptions options = NotificationOptions.of(AsyncNotificationMode.OPTION, "parallel");
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> event.fireAsync(new Ping(true), options).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertEquals("Boom", e.getCause().getMessage());
+        // the failure of one observer does not prevent the notification of others
+        assertEquals(5, observers.events.size());
+    }
+
+    public record Ping(boolean fail) {
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        final CyclicBarrier barrier = new CyclicBarrier(3);
+
+        @Inject
+        RequestScopedCounter counter;
+
+        void first(@ObservesAsync @Priority(1) Ping ping) {
+            events.clear();
+            barrier.reset();
+            events.add("first");
+        }
+
+        void parallel1(@ObservesAsync Ping ping) throws Exception {
+            await("parallel1", ping);
+        }
+
+        void parallel2(@ObservesAsync Ping ping) throws Exception {
+            await("parallel2", ping);
+        }
+
+        void parallel3(@ObservesAsync Ping ping) throws Exception {
+            await("parallel3", ping);
+        }
+
+        void last(@ObservesAsync @Priority(5000) Ping ping) {
+            events.add("last");
+        }
+
+        private void await(String name, Ping ping) throws Exception {
+            // each observer is notified with an active request context
+            counter.increment();
+            barrier.await(5, TimeUnit.SECONDS);
+            events.add(name);
+            if (ping.fail() && name.equals("parallel2")) {
+                throw new IllegalStateException("Boom");
+            }
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestScopedCounter {
+
+        private int count;
+
+        void increment() {
+            count++;
+        }
+
+    }
+
+}
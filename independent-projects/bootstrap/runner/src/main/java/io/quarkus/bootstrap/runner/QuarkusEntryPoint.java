@@ -62,13 +62,22 @@ private static void doRun(String... args) throws Throwable {
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            final StartupClasses startupClasses = StartupClasses.create(appRoot);
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
+                if (startupClasses != null) {
+                    appRunnerClassLoader.setStartupClasses(startupClasses);
+                    startupClasses.prefetch(appRunnerClassLoader);
+                }
                 Class<?> mainClass = appRunnerClassLoader.loadClass(app.getMainClass());
                 MethodHandles.Lookup lookup = MethodHandles.lookup();
                 lookup.findStatic(mainClass, "main", MethodType.methodType(void.class, String[].class)).invokeExact(args);
             } finally {
+                if (startupClasses != null) {
+                    // command mode applications exit without reaching the post boot phase
+                    startupClasses.booted();
+                }
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(null);
                 appRunnerClassLoader.close();
             }
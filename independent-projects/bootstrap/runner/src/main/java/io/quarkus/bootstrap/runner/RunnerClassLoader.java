@@ -58,6 +58,9 @@ public final class RunnerClassLoader extends ClassLoader {
     @SuppressWarnings("FieldCanBeLocal") // needs to be a field for CraC to work
     private final CracResource resource;
 
+    //Only set while the application boots
+    private volatile StartupClasses startupClasses;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap,
@@ -129,7 +132,12 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                     continue;
                 }
                 definePackage(packageName, resources);
-                return defineClass(name, data, resource);
+                Class<?> defined = defineClass(name, data, resource);
+                StartupClasses startupClasses = this.startupClasses;
+                if (startupClasses != null) {
+                    startupClasses.defined(name);
+                }
+                return defined;
             }
         }
         return getParent().loadClass(name);
@@ -338,6 +346,22 @@ public void resetInternalCaches() {
             }
             this.postBootPhase = true;
         }
+        StartupClasses startupClasses = this.startupClasses;
+        if (startupClasses != null) {
+            this.startupClasses = null;
+            startupClasses.booted();
+        }
+    }
+
+    void setStartupClasses(StartupClasses startupClasses) {
+        this.startupClasses = startupClasses;
+    }
+
+    /**
+     * @return whether the class has already been defined by this class loader, without defining it
+     */
+    boolean isDefined(String name) {
+        return findLoadedClass(name) != null;
     }
 
     class CracResource implements Resource {
@@ -0,0 +1,155 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The classes defined by the {@link RunnerClassLoader} while the application boots.
+ * <p>
+ * They are recorded during a training run of the packaged application started with
+ * {@code -Dquarkus.startup-classes.record=true}, and written to {@code quarkus/startup-classes.lst} once the application
+ * has booted. When this file is present, the next runs define these classes in parallel on the spare cores while the main
+ * thread boots the application, so that most of the classes it needs are already defined when it asks for them.
+ * <p>
+ * The classes are only defined, not initialized, so prefetching them does not run any application code.
+ */
+final class StartupClasses {
+
+    static final String STARTUP_CLASSES_LST = "quarkus/startup-classes.lst";
+    static final String RECORD_PROPERTY = "quarkus.startup-classes.record";
+    static final String PREFETCH_PROPERTY = "quarkus.startup-classes.prefetch";
+
+    private final Path file;
+    private final Set<String> recorded;
+    private final AtomicBoolean booted = new AtomicBoolean();
+    private ForkJoinPool prefetchPool;
+
+    private StartupClasses(Path file, boolean record) {
+        this.file = file;
+        this.recorded = record ? Collections.synchronizedSet(new LinkedHashSet<>()) : null;
+    }
+
+    /**
+     * @return the startup classes of the application, or {@code null} if they are neither recorded nor prefetched
+     */
+    static StartupClasses create(Path appRoot) {
+        Path file = appRoot.resolve(STARTUP_CLASSES_LST);
+        if (Boolean.getBoolean(RECORD_PROPERTY)) {
+            return new StartupClasses(file, true);
+        }
+        if (Boolean.parseBoolean(System.getProperty(PREFETCH_PROPERTY, "true")) && Files.isReadable(file)) {
+            return new StartupClasses(file, false);
+        }
+        return null;
+    }
+
+    /**
+     * Starts defining the recorded classes in the background, unless this is a training run.
+     */
+    void prefetch(RunnerClassLoader classLoader) throws IOException {
+        // leave one core to the main thread, there is no point in prefetching if it is the only one
+        prefetch(classLoader, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    void prefetch(RunnerClassLoader classLoader, int parallelism) throws IOException {
+        if (recorded != null || parallelism < 1) {
+            return;
+        }
+        List<String> classes = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (classes.isEmpty()) {
+            return;
+        }
+        parallelism = Math.min(parallelism, classes.size());
+        prefetchPool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("quarkus-startup-classes-" + thread.getPoolIndex());
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            }
+        }, null, false);
+        String[] names = classes.toArray(new String[0]);
+        for (int i = 0; i < parallelism; i++) {
+            // the classes are recorded in the order the main thread needs them: each worker takes one every
+            // `parallelism` classes so that they all stay ahead of the main thread
+            prefetchPool.execute(new Prefetch(classLoader, names, i, parallelism));
+        }
+    }
+
+    /**
+     * @return whether the prefetching has completed within the timeout, or was not started
+     */
+    boolean awaitPrefetch(long timeout, TimeUnit unit) {
+        return prefetchPool == null || prefetchPool.awaitQuiescence(timeout, unit);
+    }
+
+    void defined(String className) {
+        if (recorded != null) {
+            recorded.add(className);
+        }
+    }
+
+    /**
+     * Stops the prefetching, or writes the recorded classes for a training run. Only the first call has an effect.
+     */
+    void booted() {
+        if (!booted.compareAndSet(false, true)) {
+            return;
+        }
+        if (prefetchPool != null) {
+            prefetchPool.shutdownNow();
+        }
+        if (recorded != null) {
+            List<String> classes;
+            synchronized (recorded) {
+                classes = new ArrayList<>(recorded);
+            }
+            try {
+                Files.write(file, classes, StandardCharsets.UTF_8);
+                Logger.getLogger(StartupClasses.class).infof("Recorded %d startup classes in %s", classes.size(), file);
+            } catch (IOException e) {
+                Logger.getLogger(StartupClasses.class).warnf(e, "Unable to write the startup classes to %s", file);
+            }
+        }
+    }
+
+    private class Prefetch implements Runnable {
+
+        private final RunnerClassLoader classLoader;
+        private final String[] names;
+        private final int start;
+        private final int stride;
+
+        private Prefetch(RunnerClassLoader classLoader, String[] names, int start, int stride) {
+            this.classLoader = classLoader;
+            this.names = names;
+            this.start = start;
+            this.stride = stride;
+        }
+
+        @Override
+        public void run() {
+            for (int i = start; i < names.length && !booted.get(); i += stride) {
+                try {
+                    classLoader.loadClass(names[i]);
+                } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+                    // the list may be outdated, and real problems are reported when the application loads the class
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link StartupClasses}
+ */
+public class StartupClassesTest {
+
+    @TempDir
+    Path appRoot;
+
+    @AfterEach
+    public void clearProperties() {
+        System.clearProperty(StartupClasses.RECORD_PROPERTY);
+        System.clearProperty(StartupClasses.PREFETCH_PROPERTY);
+    }
+
+    @Test
+    public void testNothingToDoWithoutTrainingRun() {
+        assertThat(StartupClasses.create(appRoot)).isNull();
+    }
+
+    @Test
+    public void testRecordUntilBooted() throws Exception {
+        Files.createDirectories(appRoot.resolve("quarkus"));
+        System.setProperty(StartupClasses.RECORD_PROPERTY, "true");
+
+        RunnerClassLoader runnerClassLoader = createRunnerClassLoader();
+        StartupClasses startupClasses = StartupClasses.create(appRoot);
+        runnerClassLoader.setStartupClasses(startupClasses);
+        startupClasses.prefetch(runnerClassLoader);
+
+        runnerClassLoader.loadClass("org.simple.SimplePojo2");
+        runnerClassLoader.loadClass("org.simple.SimplePojo1");
+        runnerClassLoader.resetInternalCaches();
+        runnerClassLoader.loadClass("org.easy.EasyPojo");
+
+        assertThat(Files.readAllLines(appRoot.resolve(StartupClasses.STARTUP_CLASSES_LST), StandardCharsets.UTF_8))
+                .containsExactly("org.simple.SimplePojo2", "org.simple.SimplePojo1");
+    }
+
+    @Test
+    public void testPrefetchIgnoresOutdatedClasses() throws Exception {
+        Files.createDirectories(appRoot.resolve("quarkus"));
+        Files.write(appRoot.resolve(StartupClasses.STARTUP_CLASSES_LST),
+                List.of("org.simple.SimplePojo1", "org.simple.Removed", "org.easy.EasyPojo"), StandardCharsets.UTF_8);
+
+        RunnerClassLoader runnerClassLoader = createRunnerClassLoader();
+        StartupClasses startupClasses = StartupClasses.create(appRoot);
+        assertThat(startupClasses).isNotNull();
+        runnerClassLoader.setStartupClasses(startupClasses);
+        // the number of workers does not depend on the cores of the machine running the test
+        startupClasses.prefetch(runnerClassLoader, 2);
+        assertThat(startupClasses.awaitPrefetch(10, TimeUnit.SECONDS)).isTrue();
+
+        // the workers defined the recorded classes which still exist, and only them
+        assertThat(runnerClassLoader.isDefined("org.simple.SimplePojo1")).isTrue();
+        assertThat(runnerClassLoader.isDefined("org.easy.EasyPojo")).isTrue();
+        assertThat(runnerClassLoader.isDefined("org.simple.SimplePojo2")).isFalse();
+
+        assertThat(runnerClassLoader.loadClass("org.simple.SimplePojo1").getClassLoader()).isSameAs(runnerClassLoader);
+        assertThat(runnerClassLoader.loadClass("org.easy.EasyPojo").getClassLoader()).isSameAs(runnerClassLoader);
+        runnerClassLoader.resetInternalCaches();
+        assertThat(runnerClassLoader.loadClass("org.simple.SimplePojo2").getClassLoader()).isSameAs(runnerClassLoader);
+    }
+
+    @Test
+    public void testPrefetchDisabled() throws Exception {
+        Files.createDirectories(appRoot.resolve("quarkus"));
+        Files.write(appRoot.resolve(StartupClasses.STARTUP_CLASSES_LST), List.of("org.simple.SimplePojo1"),
+                StandardCharsets.UTF_8);
+        System.setProperty(StartupClasses.PREFETCH_PROPERTY, "false");
+
+        assertThat(StartupClasses.create(appRoot)).isNull();
+    }
+
+    private static RunnerClassLoader createRunnerClassLoader() {
+        Map<String, ClassLoadingResource[]> resourceDirectoryMap = Map.of(
+                "org/simple", new ClassLoadingResource[] { createProjectJarResource("simple-project-1.0.jar") },
+                "org/easy", new ClassLoadingResource[] { createProjectJarResource("easy-project-1.0.jar") });
+        return new RunnerClassLoader(ClassLoader.getSystemClassLoader(), resourceDirectoryMap,
+                Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap(),
+                null, Collections.emptySet(),
+                null, Collections.emptySet());
+    }
+
+    private static JarResource createProjectJarResource(String jarName) {
+        ManifestInfo manifestInfo = new ManifestInfo(jarName.substring(jarName.lastIndexOf('-')), "1.0", "Apache", null, null,
+                null);
+        return new JarResource(manifestInfo, Path.of("src", "test", "resources", "jars", jarName));
+    }
+}
@@ -15,8 +15,29 @@ class CompletionStageSupport {
      */
     static final boolean UNRESTRICTED = Boolean.getBoolean(SYSTEM_PROPERTY);
 
-    @SuppressWarnings("unchecked")
     static CompletionStage<Object> toCompletionStage(Object result) {
+        CompletionStage<Object> async = asAsync(result);
+        return async != null ? async : CompletedStage.of(result);
+    }
+
+    /**
+     * Unlike {@link #toCompletionStage(Object)}, the given completed stage is reused if its result does not represent an
+     * asynchronous computation.
+     *
+     * @param stage the successfully completed stage
+     * @return the completion stage for the result of the given stage
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<Object> flatten(CompletedStage<?> stage) {
+        CompletionStage<Object> async = asAsync(stage.get());
+        return async != null ? async : (CompletionStage<Object>) stage;
+    }
+
+    /**
+     * @return the completion stage represented by the given result, or {@code null} if it's not an asynchronous computation
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletionStage<Object> asAsync(Object result) {
         // Note that we intentionally use "instanceof" to test interfaces as the last resort in order to mitigate the "type pollution"
         // See https://github.com/RedHatPerf/type-pollution-agent for more information
         if (result instanceof CompletableFuture) {
@@ -28,6 +49,6 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         } else if (UNRESTRICTED && result instanceof CompletionStage) {
             return (CompletionStage<Object>) result;
         }
-        return CompletedStage.of(result);
+        return null;
     }
 }
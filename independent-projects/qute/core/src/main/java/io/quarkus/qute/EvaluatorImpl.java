@@ -134,8 +134,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // No async computation needed - continue with the next part directly
+                // Exceptions are handled in the same way as in CompletedStage#thenCompose()
+                try {
+                    return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -146,7 +155,13 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()
+                        && !Results.isNotFound(completed.get())) {
+                    // No async computation needed - reuse the completed stage if possible
+                    return CompletionStageSupport.flatten(completed);
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -209,9 +224,16 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()
+                && !Results.isNotFound(completed.get())) {
+            // No async computation needed - cache the resolver and reuse the completed stage if possible
+            evalContext.setCachedResolver(applicableResolver.getCachedResolver(evalContext));
+            return CompletionStageSupport.flatten(completed);
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
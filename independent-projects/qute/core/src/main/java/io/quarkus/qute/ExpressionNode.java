@@ -33,7 +33,17 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // No async computation needed
+            // Exceptions are handled in the same way as in CompletedStage#thenCompose()
+            try {
+                return toResultNode(completed.get());
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
@@ -0,0 +1,98 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+
+public class CompletionStageSupportTest {
+
+    @Test
+    public void testFlattenCompletedValue() {
+        CompletedStage<Object> stage = CompletedStage.of("foo");
+        assertSame(stage, CompletionStageSupport.flatten(stage));
+        assertSame(CompletedStage.NULL, CompletionStageSupport.flatten(CompletedStage.ofNull()));
+    }
+
+    @Test
+    public void testFlattenNestedCompletedStage() {
+        CompletedStage<Object> nested = CompletedStage.of("foo");
+        assertSame(nested, CompletionStageSupport.flatten(CompletedStage.of(nested)));
+    }
+
+    @Test
+    public void testFlattenCompletableFuture() throws InterruptedException, ExecutionException {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletionStage<Object> result = CompletionStageSupport.flatten(CompletedStage.of(future));
+        assertSame(future, result);
+        assertFalse(result.toCompletableFuture().isDone());
+        future.complete("foo");
+        assertEquals("foo", result.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testFlattenUni() throws InterruptedException, ExecutionException {
+        CompletionStage<Object> result = CompletionStageSupport.flatten(CompletedStage.of(Uni.createFrom().item("foo")));
+        assertEquals("foo", result.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testFlattenCompletionStage() {
+        // Other CompletionStage implementations are only supported if the system property is set
+        CompletionStage<?> other = (CompletionStage<?>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { CompletionStage.class }, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException();
+                });
+        CompletedStage<Object> stage = CompletedStage.of(other);
+        CompletionStage<Object> result = CompletionStageSupport.flatten(stage);
+        if (CompletionStageSupport.UNRESTRICTED) {
+            assertSame(other, result);
+        } else {
+            assertSame(stage, result);
+            assertSame(other, ((CompletedStage<Object>) CompletionStageSupport.toCompletionStage(other)).get());
+        }
+    }
+
+    @Test
+    public void testNestedCompletedValue() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addValueResolver(ValueResolver.builder().applyToName("nested")
+                        .resolveAsync(ec -> CompletedStage.of(CompletedStage.of("foo"))).build())
+                .addValueResolver(ValueResolver.builder().applyToName("future")
+                        .resolveSync(ec -> CompletableFuture.completedFuture("bar")).build())
+                .build();
+        assertEquals("foo", engine.parse("{item.nested}").data("item", new Object()).render());
+        assertEquals("FOO", engine.parse("{item.nested.toUpperCase}").data("item", new Object()).render());
+        assertEquals("bar:BAR", engine.parse("{item.future}:{item.future.toUpperCase}").data("item", new Object()).render());
+    }
+
+    @Test
+    public void testExceptionOnSynchronousPath() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToName("fail")
+                        .resolveSync(ec -> {
+                            throw new IllegalStateException("Foo!");
+                        }).build())
+                .build();
+        // The exception is thrown by the resolver of the last part and the resolver of a middle part
+        for (String template : new String[] { "{item.fail}", "{item.fail.toUpperCase}" }) {
+            Throwable e = assertThrows(Throwable.class, () -> engine.parse(template).data("item", new Object()).render());
+            while (!(e instanceof IllegalStateException) && e.getCause() != null) {
+                e = e.getCause();
+            }
+            assertTrue(e instanceof IllegalStateException, template);
+            assertEquals("Foo!", e.getMessage());
+        }
+    }
+
+}
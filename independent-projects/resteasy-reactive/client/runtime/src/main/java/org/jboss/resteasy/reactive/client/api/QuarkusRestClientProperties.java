@@ -85,6 +85,18 @@ public class QuarkusRestClientProperties {
      */
     public static final String ALPN = "io.quarkus.rest.client.alpn";
 
+    /**
+     * The maximum number of concurrent streams the client opens on a single HTTP/2 connection, {@code -1} means the
+     * limit advertised by the server.
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "io.quarkus.rest.client.http2-max-concurrent-streams";
+
+    /**
+     * Set to false to connect to plain text HTTP/2 servers with prior knowledge instead of upgrading an HTTP/1.1
+     * connection.
+     */
+    public static final String HTTP2_CLEAR_TEXT_UPGRADE = "io.quarkus.rest.client.http2-clear-text-upgrade";
+
     /**
      * Set to true to explicitly use the HTTP/3 version.
      */
@@ -130,4 +142,18 @@ public class QuarkusRestClientProperties {
      */
     public static final String LOGGING_MASKED_HEADERS = "io.quarkus.rest.client.logging.masked-headers";
 
+    /**
+     * The names of the headers whose values identify a {@code GET} request, along with its URI, when the identical
+     * requests sent concurrently are coalesced into a single one. The value must be a {@code Collection<String>}.
+     * <p>
+     * Requests without this property are never coalesced.
+     */
+    public static final String COALESCE_HEADERS = "io.quarkus.rest.client.coalesce-headers";
+
+    /**
+     * Set to {@code Boolean.TRUE} on the requests which were not sent because they got the response of an identical
+     * request sent concurrently.
+     */
+    public static final String COALESCED = "io.quarkus.rest.client.coalesced";
+
 }
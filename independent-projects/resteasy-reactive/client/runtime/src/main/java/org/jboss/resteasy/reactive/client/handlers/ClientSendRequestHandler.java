@@ -83,6 +83,12 @@ public class ClientSendRequestHandler implements ClientRestHandler {
     private final String domainSocketPath;
     private final int maxChunkSize;
     private final int inputStreamChunkSize;
+    private final RequestCoalescer coalescer = new RequestCoalescer(new Consumer<>() {
+        @Override
+        public void accept(RestClientRequestContext requestContext) {
+            send(requestContext, null);
+        }
+    });
 
     public ClientSendRequestHandler(HttpClientOptions httpClientOptions,
             boolean followRedirects,
@@ -110,6 +116,18 @@ public void handle(RestClientRequestContext requestContext) {
 
         requestContext.setHttpClientOptions(httpClientOptions);
 
+        RequestCoalescer.InFlight coalesced = null;
+        if (RequestCoalescer.isCoalescable(requestContext)) {
+            coalesced = coalescer.lead(requestContext);
+            if (coalesced == null) {
+                // an identical request is in flight, its response will resume this one
+                return;
+            }
+        }
+        send(requestContext, coalesced);
+    }
+
+    private void send(RestClientRequestContext requestContext, RequestCoalescer.InFlight coalesced) {
         Uni<HttpClientRequest> future = createRequest(requestContext);
 
         // DNS failures happen before we send the request
@@ -118,6 +136,9 @@ public void handle(RestClientRequestContext requestContext) {
             public void accept(HttpClientRequest httpClientRequest) {
                 if (requestContext.isUserCanceled()) {
                     // in this case the user aborted before the request was even created
+                    if (coalesced != null) {
+                        coalesced.release();
+                    }
                     return;
                 }
 
@@ -158,7 +179,7 @@ public void accept(HttpClientRequest httpClientRequest) {
                         });
                         Future<HttpClientResponse> sent = httpClientRequest.response();
                         requestPromise.complete(httpClientRequest);
-                        attachSentHandlers(sent, httpClientRequest, requestContext);
+                        attachSentHandlers(sent, httpClientRequest, requestContext, null);
                     } catch (Throwable e) {
                         reportFinish(e, requestContext);
                         requestContext.resume(e);
@@ -188,7 +209,7 @@ public void accept(HttpClientRequest httpClientRequest) {
                                 setVertxHeaders(httpClientRequest, headerMap);
 
                                 Future<HttpClientResponse> sent = httpClientRequest.send(openedAsyncFile.result());
-                                attachSentHandlers(sent, httpClientRequest, requestContext);
+                                attachSentHandlers(sent, httpClientRequest, requestContext, null);
                             });
                 } else if (requestContext.isInputStreamUpload() && !hasWriterInterceptors(requestContext)) {
                     MultivaluedMap<String, String> headerMap = requestContext.getRequestHeadersAsMap();
@@ -198,7 +219,7 @@ public void accept(HttpClientRequest httpClientRequest) {
                             new InputStreamReadStream(
                                     Vertx.currentContext().owner(), (InputStream) requestContext.getEntity().getEntity(),
                                     httpClientRequest, inputStreamChunkSize));
-                    attachSentHandlers(sent, httpClientRequest, requestContext);
+                    attachSentHandlers(sent, httpClientRequest, requestContext, null);
                 } else if (requestContext.isMultiBufferUpload()) {
                     MultivaluedMap<String, String> headerMap = requestContext.getRequestHeadersAsMap();
                     updateRequestHeadersFromConfig(requestContext, headerMap);
@@ -211,7 +232,7 @@ public Buffer apply(Buffer buffer) {
                                     return buffer;
                                 }
                             }));
-                    attachSentHandlers(sent, httpClientRequest, requestContext);
+                    attachSentHandlers(sent, httpClientRequest, requestContext, null);
                 } else {
                     Future<HttpClientResponse> sent;
                     Buffer actualEntity;
@@ -219,6 +240,9 @@ public Buffer apply(Buffer buffer) {
                         actualEntity = ClientSendRequestHandler.this
                                 .setRequestHeadersAndPrepareBody(httpClientRequest, requestContext);
                     } catch (Throwable e) {
+                        if (coalesced != null) {
+                            coalesced.fail(e);
+                        }
                         requestContext.resume(e);
                         return;
                     }
@@ -233,7 +257,7 @@ public Buffer apply(Buffer buffer) {
                             clientLogger.logRequest(httpClientRequest, actualEntity, false);
                         }
                     }
-                    attachSentHandlers(sent, httpClientRequest, requestContext);
+                    attachSentHandlers(sent, httpClientRequest, requestContext, coalesced);
                 }
             }
         }, new Consumer<>() {
@@ -245,9 +269,15 @@ public void accept(Throwable event) {
 
                 if (event instanceof IOException) {
                     ProcessingException throwable = new ProcessingException(event);
+                    if (coalesced != null) {
+                        coalesced.fail(throwable);
+                    }
                     reportFinish(throwable, requestContext);
                     requestContext.resume(throwable);
                 } else {
+                    if (coalesced != null) {
+                        coalesced.fail(event);
+                    }
                     requestContext.resume(event);
                     reportFinish(event, requestContext);
                 }
@@ -321,7 +351,8 @@ private void installRedirectRequestCustomizer(HttpClientRequest httpClientReques
 
     private void attachSentHandlers(Future<HttpClientResponse> sent,
             HttpClientRequest httpClientRequest,
-            RestClientRequestContext requestContext) {
+            RestClientRequestContext requestContext,
+            RequestCoalescer.InFlight coalesced) {
         sent.onSuccess(new Handler<>() {
             @Override
             public void handle(HttpClientResponse clientResponse) {
@@ -338,6 +369,10 @@ public void handle(HttpClientResponse clientResponse) {
                     }
 
                     if (isResponseMultipart(requestContext) && !requestContext.isInputStreamDownload()) {
+                        if (coalesced != null) {
+                            // the decoded parts cannot be shared
+                            coalesced.release();
+                        }
                         QuarkusMultipartResponseDecoder multipartDecoder = new QuarkusMultipartResponseDecoder(
                                 clientResponse);
 
@@ -432,6 +467,9 @@ public void handle(Void event) {
                                     }
                                     Buffer buffer = ar.result();
                                     try {
+                                        if (coalesced != null) {
+                                            coalesced.complete(clientResponse, ((BufferInternal) buffer).getByteBuf());
+                                        }
                                         if (buffer.length() > 0) {
                                             requestContext.setResponseEntityStream(
                                                     new ByteBufInputStream(
@@ -444,12 +482,18 @@ public void handle(Void event) {
                                         requestContext.resume(t);
                                     }
                                 } else {
+                                    if (coalesced != null) {
+                                        coalesced.fail(ar.cause());
+                                    }
                                     requestContext.resume(ar.cause());
                                 }
                             });
                         }
                     }
                 } catch (Throwable t) {
+                    if (coalesced != null) {
+                        coalesced.fail(t);
+                    }
                     reportFinish(t, requestContext);
                     requestContext.resume(t);
                 }
@@ -464,12 +508,14 @@ public void handle(Throwable failure) {
                             // exception, it gets unwrapped by the rest client proxy and thus fails the TCK.
                             // By creating an IOException, we avoid that and provide a meaningful exception (because
                             // it's an I/O exception)
-                            requestContext.resume(new ProcessingException(new IOException(failure.getMessage())));
+                            failure = new ProcessingException(new IOException(failure.getMessage()));
                         } else if (failure instanceof IOException) {
-                            requestContext.resume(new ProcessingException(failure));
-                        } else {
-                            requestContext.resume(failure);
+                            failure = new ProcessingException(failure);
+                        }
+                        if (coalesced != null) {
+                            coalesced.fail(failure);
                         }
+                        requestContext.resume(failure);
                     }
                 });
     }
@@ -0,0 +1,218 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.util.MultivaluedTreeMap;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpClientResponse;
+
+/**
+ * Coalesces the identical {@code GET} requests sent concurrently by a client.
+ * <p>
+ * The first request is sent and the identical requests sent before its response is received wait for it: they all get
+ * a copy of the response status, headers and body, and then read the entity on their own. The requests are identical
+ * when they have the same URI and the same values for the headers listed in the
+ * {@link QuarkusRestClientProperties#COALESCE_HEADERS} property of the request.
+ * <p>
+ * Only the requests whose response is fully read in memory are coalesced. The waiting requests are resumed on the
+ * Vert.x context of the thread that sent them, and they are removed when they are cancelled.
+ */
+class RequestCoalescer {
+
+    private final ConcurrentMap<Key, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Consumer<RestClientRequestContext> sender;
+
+    /**
+     * @param sender sends a request without coalescing it, it is used when the response of the request a follower waits
+     *        for cannot be shared
+     */
+    RequestCoalescer(Consumer<RestClientRequestContext> sender) {
+        this.sender = sender;
+    }
+
+    static boolean isCoalescable(RestClientRequestContext requestContext) {
+        return requestContext.getProperties().get(QuarkusRestClientProperties.COALESCE_HEADERS) instanceof Collection
+                && HttpMethod.GET.equals(requestContext.getHttpMethod())
+                && requestContext.getEntity() == null
+                && requestContext.isRegisterBodyHandler()
+                && !requestContext.isFileDownload()
+                && !requestContext.isInputStreamDownload()
+                && !(requestContext.isJakartaResponseDownload() && !requestContext.invokedMethodReturnsAsyncType())
+                && requestContext.getCallStatsCollector() == null;
+    }
+
+    /**
+     * @param requestContext a request for which {@link #isCoalescable(RestClientRequestContext)} returned true
+     * @return the in flight request the given request has to send and complete, or {@code null} if the given request
+     *         waits for an identical request
+     */
+    InFlight lead(RestClientRequestContext requestContext) {
+        Key key = key(requestContext);
+        while (true) {
+            InFlight candidate = new InFlight(key, requestContext);
+            InFlight existing = inFlight.putIfAbsent(key, candidate);
+            if (existing == null) {
+                return candidate;
+            }
+            Follower follower = new Follower(requestContext, requestContext.getOrCreateVertxContext());
+            if (existing.follow(follower)) {
+                requestContext.setUserCancelHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        existing.unfollow(follower);
+                    }
+                });
+                if (requestContext.isUserCanceled()) {
+                    // the request was cancelled before the handler was set
+                    existing.unfollow(follower);
+                }
+                return null;
+            }
+            // the existing request has just been completed and removed from the map
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Key key(RestClientRequestContext requestContext) {
+        Collection<String> names = (Collection<String>) requestContext.getProperties()
+                .get(QuarkusRestClientProperties.COALESCE_HEADERS);
+        List<List<String>> values = new ArrayList<>(names.size());
+        for (String name : names) {
+            List<Object> headerValues = requestContext.getRequestHeaders().getHeaders().get(name);
+            if (headerValues == null) {
+                values.add(List.of());
+            } else {
+                List<String> stringValues = new ArrayList<>(headerValues.size());
+                for (Object headerValue : headerValues) {
+                    stringValues.add(HeaderUtil.headerToString(headerValue));
+                }
+                values.add(stringValues);
+            }
+        }
+        return new Key(requestContext.getUri().toString(), values);
+    }
+
+    private static void failFollower(RestClientRequestContext requestContext, Throwable failure) {
+        // set some properties to prevent NPEs down the chain
+        requestContext.setResponseHeaders(new MultivaluedTreeMap<>());
+        requestContext.setResponseReasonPhrase("unknown");
+        requestContext.resume(failure);
+    }
+
+    private record Key(String uri, List<List<String>> headerValues) {
+    }
+
+    /**
+     * @param context the Vert.x context of the thread that sent the request, the request is resumed on it
+     */
+    private record Follower(RestClientRequestContext requestContext, Context context) {
+    }
+
+    class InFlight {
+
+        private final Key key;
+        private final RestClientRequestContext leader;
+        private List<Follower> followers;
+        private boolean done;
+
+        private InFlight(Key key, RestClientRequestContext leader) {
+            this.key = key;
+            this.leader = leader;
+        }
+
+        private synchronized boolean follow(Follower follower) {
+            if (done) {
+                return false;
+            }
+            if (followers == null) {
+                followers = new ArrayList<>();
+            }
+            followers.add(follower);
+            return true;
+        }
+
+        private void unfollow(Follower follower) {
+            synchronized (this) {
+                if (done || !followers.remove(follower)) {
+                    // the follower is being resumed with the response of the leader
+                    return;
+                }
+            }
+            follower.context().runOnContext(v -> failFollower(follower.requestContext(),
+                    new ProcessingException(new CancellationException("The request was cancelled"))));
+        }
+
+        private synchronized List<Follower> finish() {
+            if (done) {
+                return null;
+            }
+            inFlight.remove(key, this);
+            done = true;
+            return followers;
+        }
+
+        /**
+         * Shares the response with the followers, it must be called before the response body is handed to the leader.
+         */
+        void complete(HttpClientResponse response, ByteBuf body) {
+            List<Follower> followers = finish();
+            if (followers == null) {
+                return;
+            }
+            for (Follower follower : followers) {
+                RestClientRequestContext requestContext = follower.requestContext();
+                requestContext.initialiseResponse(response);
+                requestContext.setResponseEntityStream(
+                        body != null && body.isReadable() ? new ByteBufInputStream(body.retainedDuplicate(), true) : null);
+                requestContext.getProperties().put(QuarkusRestClientProperties.COALESCED, Boolean.TRUE);
+                follower.context().runOnContext(v -> requestContext.resume());
+            }
+        }
+
+        /**
+         * Fails the followers with the failure of the leader, or sends their requests if the leader was cancelled by the
+         * user.
+         */
+        void fail(Throwable failure) {
+            if (leader.isUserCanceled()) {
+                release();
+                return;
+            }
+            List<Follower> followers = finish();
+            if (followers == null) {
+                return;
+            }
+            for (Follower follower : followers) {
+                follower.context().runOnContext(v -> failFollower(follower.requestContext(), failure));
+            }
+        }
+
+        /**
+         * Sends the requests of the followers, because the response of the leader cannot be shared.
+         */
+        void release() {
+            List<Follower> followers = finish();
+            if (followers == null) {
+                return;
+            }
+            for (Follower follower : followers) {
+                follower.context().runOnContext(v -> sender.accept(follower.requestContext()));
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
@@ -164,6 +166,16 @@ public Vertx get() {
             options.setHttp2KeepAliveTimeout((int) connectionTTL);
         }
 
+        Object http2MaxConcurrentStreams = configuration.getProperty(HTTP2_MAX_CONCURRENT_STREAMS);
+        if (http2MaxConcurrentStreams != null) {
+            options.setHttp2MultiplexingLimit((int) http2MaxConcurrentStreams);
+        }
+
+        Object http2ClearTextUpgrade = configuration.getProperty(HTTP2_CLEAR_TEXT_UPGRADE);
+        if (http2ClearTextUpgrade != null) {
+            options.setHttp2ClearTextUpgrade((boolean) http2ClearTextUpgrade);
+        }
+
         Object connectionPoolSize = configuration.getProperty(CONNECTION_POOL_SIZE);
         if (connectionPoolSize == null) {
             connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
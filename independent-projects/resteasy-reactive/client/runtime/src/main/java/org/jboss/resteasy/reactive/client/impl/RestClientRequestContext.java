@@ -115,6 +115,7 @@ public class RestClientRequestContext extends AbstractResteasyReactiveContext<Re
     private StackTraceElement[] callerStackTrace;
 
     private final AtomicBoolean userCanceled = new AtomicBoolean();
+    private volatile Runnable userCancelHandler;
 
     public RestClientRequestContext(ClientImpl restClient,
             HttpClient httpClient, String httpMethod, URI uri,
@@ -336,7 +337,7 @@ public HttpClientResponse getVertxClientResponse() {
     protected Executor getEventLoop() {
         if (httpClientRequest == null) {
             // make sure we execute the client callbacks on the same context as the current thread
-            Context context = restClient.getVertx().getOrCreateContext();
+            Context context = getOrCreateVertxContext();
             return new Executor() {
                 @Override
                 public void execute(Runnable command) {
@@ -353,6 +354,13 @@ public void execute(Runnable command) {
         }
     }
 
+    /**
+     * @return the Vert.x context of the current thread, it is created if the current thread has none
+     */
+    public Context getOrCreateVertxContext() {
+        return restClient.getVertx().getOrCreateContext();
+    }
+
     public HttpClientRequest getHttpClientRequest() {
         return httpClientRequest;
     }
@@ -653,6 +661,18 @@ protected boolean isRequestScopeManagementRequired() {
 
     public void setUserCanceled() {
         userCanceled.set(true);
+        Runnable handler = userCancelHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Sets the handler run when the user cancels a request that has no HTTP request to reset, such as a request waiting
+     * for the response of an identical request.
+     */
+    public void setUserCancelHandler(Runnable userCancelHandler) {
+        this.userCancelHandler = userCancelHandler;
     }
 
     public boolean isUserCanceled() {
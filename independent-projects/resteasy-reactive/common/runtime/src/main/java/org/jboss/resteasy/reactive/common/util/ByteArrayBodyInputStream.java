@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.common.util;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * The {@link ByteArrayInputStream} of a fully buffered request body.
+ * <p>
+ * It gives the message body readers access to the remaining bytes, so that parsers accepting a {@code byte[]} source can
+ * read them in place instead of copying them through the {@link java.io.InputStream} API.
+ */
+public class ByteArrayBodyInputStream extends ByteArrayInputStream {
+
+    public ByteArrayBodyInputStream(byte[] buf) {
+        super(buf);
+    }
+
+    /**
+     * @return the array backing this stream, it must not be modified
+     */
+    public byte[] array() {
+        return buf;
+    }
+
+    /**
+     * @return the offset of the next byte to be read in {@link #array()}
+     */
+    public synchronized int position() {
+        return pos;
+    }
+
+    /**
+     * @return the number of bytes left to be read
+     */
+    public synchronized int remaining() {
+        return count - pos;
+    }
+
+    /**
+     * Marks the remaining bytes as read, once they have been consumed directly from {@link #array()}.
+     */
+    public synchronized void consume() {
+        pos = count;
+    }
+}
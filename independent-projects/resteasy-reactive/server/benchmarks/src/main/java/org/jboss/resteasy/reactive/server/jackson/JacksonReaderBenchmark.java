@@ -0,0 +1,180 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Compares the deserialization of a request body done by the reflection based Jackson bean deserializer with the one done
+ * by a deserializer shaped like the ones generated at build time by the {@code quarkus-rest-jackson} extension, reading
+ * the body either through an {@link InputStream} or directly from the {@code byte[]} it is buffered into.
+ * <p>
+ * The generated deserializers are created with Gizmo during the build, so {@link ItemDeserializer} is a hand-written
+ * equivalent of the code generated for {@link Item}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JacksonReaderBenchmark {
+
+    @Param({ "1", "100" })
+    public int items;
+
+    private ObjectReader reflectionReader;
+    private ObjectReader generatedReader;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        reflectionReader = mapper.readerFor(Item[].class);
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(Item.class, new ItemDeserializer());
+        generatedReader = new ObjectMapper().registerModule(module).readerFor(Item[].class);
+
+        List<Item> payload = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setName("item-" + i);
+            item.setPrice(i * 1.5);
+            item.setQuantity(i);
+            item.setTags(List.of("tag-" + i, "tag-" + (i + 1)));
+            payload.add(item);
+        }
+        body = mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object reflectionFromStream() throws IOException {
+        return reflectionReader.readValue(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public Object reflectionFromBytes() throws IOException {
+        return reflectionReader.readValue(body, 0, body.length);
+    }
+
+    @Benchmark
+    public Object generatedFromStream() throws IOException {
+        return generatedReader.readValue(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public Object generatedFromBytes() throws IOException {
+        return generatedReader.readValue(body, 0, body.length);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+    public static class Item {
+
+        private String name;
+        private double price;
+        private int quantity;
+        private List<String> tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    static class ItemDeserializer extends StdDeserializer<Item> {
+
+        ItemDeserializer() {
+            super(Item.class);
+        }
+
+        @Override
+        public Item deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+            JsonNode jsonNode = jsonParser.getCodec().readTree(jsonParser);
+            Item item = new Item();
+            Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.properties().iterator();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                JsonNode jsonValue = entry.getValue();
+                if (jsonValue.isNull()) {
+                    continue;
+                }
+                switch (entry.getKey()) {
+                    case "name":
+                        item.setName(jsonValue.asText());
+                        break;
+                    case "price":
+                        item.setPrice(jsonValue.asDouble());
+                        break;
+                    case "quantity":
+                        item.setQuantity(jsonValue.asInt());
+                        break;
+                    case "tags":
+                        List<String> tags = new ArrayList<>(jsonValue.size());
+                        for (JsonNode tag : jsonValue) {
+                            tags.add(tag.asText());
+                        }
+                        item.setTags(tags);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return item;
+        }
+    }
+}
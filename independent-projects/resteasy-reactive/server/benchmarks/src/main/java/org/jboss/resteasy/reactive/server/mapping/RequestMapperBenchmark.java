@@ -0,0 +1,110 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the stem lookup of the {@link RequestMapper} done through the {@link StemTrie} with the {@link PathMatcher}
+ * lookup it replaced, on route tables of different sizes.
+ * <p>
+ * The route table mimics a large application: every resource has a collection, an item and a sub-resource endpoint,
+ * and the resource names have different lengths so the stems have a lot of distinct lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "30", "600" })
+    public int resources;
+
+    private RequestMapper<String> mapper;
+    private PathMatcher<ArrayList<RequestMapper.RequestPath<String>>> pathMatcher;
+    private StemTrie<ArrayList<RequestMapper.RequestPath<String>>> stemTrie;
+    private String[] paths;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        List<String> requests = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            String resource = "/api/v1/" + "r".repeat(1 + i % 24) + i;
+            add(templates, resource);
+            add(templates, resource + "/{id}");
+            add(templates, resource + "/{id}/items/{itemId}");
+            requests.add(resource);
+            requests.add(resource + "/42");
+            requests.add(resource + "/42/items/7");
+        }
+        mapper = new RequestMapper<>(templates);
+        pathMatcher = mapper.getRequestPaths();
+        StemTrie.Builder<ArrayList<RequestMapper.RequestPath<String>>> builder = new StemTrie.Builder<>();
+        for (String stem : pathMatcherStems(templates)) {
+            builder.add(stem, new ArrayList<>());
+        }
+        stemTrie = builder.build();
+        paths = requests.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(mapper.map(path));
+        }
+    }
+
+    @Benchmark
+    public void stemLookupPathMatcher(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(pathMatcher.match(path));
+        }
+    }
+
+    @Benchmark
+    public void stemLookupTrie(Blackhole blackhole) {
+        for (String path : paths) {
+            int node = stemTrie.longestMatch(path, Integer.MAX_VALUE);
+            while (node >= 0) {
+                blackhole.consume(stemTrie.value(node));
+                node = stemTrie.longestMatch(path, stemTrie.length(node));
+            }
+        }
+    }
+
+    private static List<String> pathMatcherStems(List<RequestMapper.RequestPath<String>> templates) {
+        List<String> stems = new ArrayList<>();
+        for (RequestMapper.RequestPath<String> template : templates) {
+            if (!stems.contains(template.template.stem)) {
+                stems.add(template.template.stem);
+            }
+        }
+        return stems;
+    }
+
+    private static void add(List<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc" });
+    }
+
+}
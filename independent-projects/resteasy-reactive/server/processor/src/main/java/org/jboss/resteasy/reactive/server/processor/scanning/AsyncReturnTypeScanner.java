@@ -11,6 +11,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
@@ -20,6 +21,7 @@
 import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
 import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
 import org.jboss.resteasy.reactive.server.Cancellable;
+import org.jboss.resteasy.reactive.server.Streamed;
 import org.jboss.resteasy.reactive.server.handlers.CompletionStageResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.PublisherResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.UniResponseHandler;
@@ -29,6 +31,9 @@
 public class AsyncReturnTypeScanner implements MethodScanner {
 
     private static final DotName CANCELLABLE = DotName.createSimple(Cancellable.class.getName());
+    private static final DotName STREAMED = DotName.createSimple(Streamed.class.getName());
+    private static final DotName STREAM = DotName.createSimple(Stream.class.getName());
+    private static final DotName ITERABLE = DotName.createSimple(Iterable.class.getName());
 
     @Override
     public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -53,6 +58,12 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
             return Collections.singletonList(new FixedHandlerChainCustomizer(new PublisherResponseHandler(),
                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE));
         }
+        if ((returnTypeName.equals(STREAM) || returnTypeName.equals(ITERABLE))
+                && determineStreamed(method, actualEndpointClass, annotationStore)) {
+            // JSON arrays are streamed element by element, the other media types go through the message body writers
+            return Collections.singletonList(new FixedHandlerChainCustomizer(new PublisherResponseHandler(),
+                    HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE));
+        }
         return Collections.emptyList();
     }
 
@@ -73,6 +84,21 @@ private boolean determineCancelable(MethodInfo method, ClassInfo clazz, Annotati
         return true;
     }
 
+    private boolean determineStreamed(MethodInfo method, ClassInfo clazz, AnnotationStore annotationStore) {
+        AnnotationInstance instance = annotationStore.getAnnotation(method, STREAMED);
+        if (instance == null) {
+            instance = annotationStore.getAnnotation(method.declaringClass(), STREAMED);
+            if ((instance == null) && !clazz.equals(method.declaringClass())) {
+                instance = annotationStore.getAnnotation(clazz, STREAMED);
+            }
+        }
+        if (instance == null) {
+            return false;
+        }
+        AnnotationValue value = instance.value();
+        return value == null || value.asBoolean();
+    }
+
     @Override
     public boolean isMethodSignatureAsync(MethodInfo method) {
         DotName returnTypeName = method.returnType().name();
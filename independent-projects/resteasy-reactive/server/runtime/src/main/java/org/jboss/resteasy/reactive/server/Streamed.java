@@ -0,0 +1,27 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+/**
+ * Used on a method that returns a {@link Stream} or an {@link Iterable} to write the elements one by one, as a JSON array
+ * or as new line separated JSON documents, instead of serializing the result as a single entity.
+ * <p>
+ * The streamed responses have no {@code Content-Length}, and neither the response filters, the {@link WriterInterceptor}s
+ * nor the user {@link MessageBodyWriter}s of the return type are invoked for them. By default, the result is not streamed.
+ * <p>
+ * Can also be placed on a resource class to stream the results of all its methods returning a {@link Stream} or an
+ * {@link Iterable}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Streamed {
+
+    boolean value() default true;
+}
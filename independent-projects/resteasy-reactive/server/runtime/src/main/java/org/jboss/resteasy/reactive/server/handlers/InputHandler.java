@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +8,7 @@
 
 import jakarta.ws.rs.HttpMethod;
 
+import org.jboss.resteasy.reactive.common.util.ByteArrayBodyInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -81,7 +81,7 @@ public void done() {
                 i.get(ar, count, remaining);
                 count += remaining;
             }
-            context.setInputStream(new ByteArrayInputStream(ar));
+            context.setInputStream(new ByteArrayBodyInputStream(ar));
             Thread.currentThread().setContextClassLoader(originalTCCL);
             context.resume();
         }
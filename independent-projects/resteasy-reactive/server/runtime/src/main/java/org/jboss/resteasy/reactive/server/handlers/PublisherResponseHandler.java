@@ -2,20 +2,27 @@
 
 import static org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl.EMPTY_BUFFER;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.RestMulti;
+import org.jboss.resteasy.reactive.common.core.BlockingOperationSupport;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -23,13 +30,15 @@
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
 import mutiny.zero.flow.adapters.AdaptersToFlow;
 
 /**
- * This handler is used to push streams of data to the client.
+ * This handler is used to push streams of data to the client: the items of a {@link Publisher}, or the elements of a
+ * {@link Stream} or of an {@link Iterable} returned by a JSON endpoint.
  * This handler is added to the chain in the {@link Phase#AFTER_METHOD_INVOKE} phase and is essentially the terminal phase
  * of the handler chain, as no other handlers will be called after this one.
  */
@@ -242,16 +251,177 @@ public void onError(Throwable t) {
         }
 
         protected void handleException(ResteasyReactiveRequestContext requestContext, Throwable t) {
-            // in truth we can only send an exception if we haven't sent the headers yet, otherwise
-            // it will appear to be an SSE value, which is incorrect, so we should only log it and close the connection
-            if (requestContext.serverResponse().headWritten()) {
-                log.error("Exception in SSE server handling, impossible to send it to client", t);
-                // HTTP chunked encoding sends an indeterminate number of chunks, but it has to end with an end chunk of zero size to indicate successful transmission.
-                // reset() will cause this last chunk to not be sent, even though every other chunk was sent, and so clients can detect the error
-                requestContext.serverResponse().reset();
+            handleStreamingException(requestContext, t);
+        }
+    }
+
+    private static void handleStreamingException(ResteasyReactiveRequestContext requestContext, Throwable t) {
+        // in truth we can only send an exception if we haven't sent the headers yet, otherwise
+        // it will appear to be a streamed value (an SSE event or a JSON array element), which is incorrect, so we should only
+        // log it and close the connection
+        if (requestContext.serverResponse().headWritten()) {
+            log.error("Exception while streaming the response, impossible to send it to client", t);
+            // HTTP chunked encoding sends an indeterminate number of chunks, but it has to end with an end chunk of zero size to indicate successful transmission.
+            // reset() will cause this last chunk to not be sent, even though every other chunk was sent, and so clients can detect the error
+            requestContext.serverResponse().reset();
+        } else {
+            // we can go through the abort chain
+            requestContext.resume(t, true);
+        }
+    }
+
+    /**
+     * Writes the elements of a {@link Stream} or of an {@link Iterable} one by one, as a JSON array or as JSON documents
+     * separated by new lines.
+     * <p>
+     * The elements are only pulled while the response write queue is not full. When it is, a blocking thread waits until
+     * the queue is drained, while the event loop registers a drain handler and resumes the writing from it.
+     */
+    private static class StreamingIterableWriter implements Runnable {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final List<StreamingResponseCustomizer> customizers;
+        private final Iterator<?> iterator;
+        private final AutoCloseable resource;
+        private final boolean encodeAsJsonArray;
+        private final boolean blocking;
+
+        private volatile boolean closed;
+        private volatile Throwable failure;
+        private volatile CompletableFuture<Void> drained;
+        private boolean waitingForDrain;
+        private boolean hadItem;
+        private boolean done;
+
+        StreamingIterableWriter(ResteasyReactiveRequestContext requestContext, List<StreamingResponseCustomizer> customizers,
+                Iterator<?> iterator, AutoCloseable resource, boolean encodeAsJsonArray) {
+            this.requestContext = requestContext;
+            this.customizers = customizers;
+            this.iterator = iterator;
+            this.resource = resource;
+            this.encodeAsJsonArray = encodeAsJsonArray;
+            this.blocking = BlockingOperationSupport.isBlockingAllowed();
+        }
+
+        void start() {
+            // let's make sure we never restart by accident, also make sure we're not marked as completed
+            requestContext.restart(AWOL, true);
+            requestContext.serverResponse().addCloseHandler(new Runnable() {
+                @Override
+                public void run() {
+                    closed = true;
+                    wakeUp();
+                }
+            });
+            run();
+        }
+
+        @Override
+        public void run() {
+            ServerHttpResponse response = requestContext.serverResponse();
+            waitingForDrain = false;
+            try {
+                while (!done) {
+                    if (failure != null) {
+                        finish(failure);
+                        return;
+                    }
+                    if (closed) {
+                        // the client went away
+                        finish(null);
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        complete(response);
+                        return;
+                    }
+                    Object item = iterator.next();
+                    String prefix = encodeAsJsonArray ? (hadItem ? "," : "[") : null;
+                    hadItem = true;
+                    StreamingUtil.send(requestContext, customizers, item, prefix, encodeAsJsonArray ? null : "\n")
+                            .whenComplete(new BiConsumer<Object, Throwable>() {
+                                @Override
+                                public void accept(Object v, Throwable t) {
+                                    if (t != null) {
+                                        failure = t;
+                                        wakeUp();
+                                    }
+                                }
+                            });
+                    if (response.isWriteQueueFull() && !awaitDrain(response)) {
+                        // resumed by the drain handler
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                finish(t);
+            }
+        }
+
+        private boolean awaitDrain(ServerHttpResponse response) {
+            if (!blocking) {
+                // the drain handler is invoked on this event loop, so the queue cannot be drained in the meantime
+                waitingForDrain = true;
+                response.addDrainHandler(this);
+                return false;
+            }
+            CompletableFuture<Void> drained = new CompletableFuture<>();
+            this.drained = drained;
+            response.addDrainHandler(new Runnable() {
+                @Override
+                public void run() {
+                    drained.complete(null);
+                }
+            });
+            // the queue might have been drained before the handler was registered
+            if (response.isWriteQueueFull() && !closed && failure == null) {
+                drained.join();
+            }
+            this.drained = null;
+            return true;
+        }
+
+        private void wakeUp() {
+            CompletableFuture<Void> drained = this.drained;
+            if (drained != null) {
+                drained.complete(null);
+            } else if (waitingForDrain) {
+                // the event loop is waiting for a drain which might never come
+                run();
+            }
+        }
+
+        private void complete(ServerHttpResponse response) {
+            if (!hadItem) {
+                StreamingUtil.setHeaders(requestContext, response, customizers);
+            }
+            closeResource();
+            done = true;
+            if (encodeAsJsonArray) {
+                response.end((hadItem ? "]" : "[]").getBytes(StandardCharsets.US_ASCII));
             } else {
-                // we can go through the abort chain
-                requestContext.resume(t, true);
+                response.end();
+            }
+            requestContext.close();
+        }
+
+        private void finish(Throwable t) {
+            closeResource();
+            done = true;
+            if (t != null) {
+                handleStreamingException(requestContext, t);
+            } else {
+                requestContext.close();
+            }
+        }
+
+        private void closeResource() {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    log.debug("Unable to close the streamed resource", e);
+                }
             }
         }
     }
@@ -307,7 +477,48 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
                     handleStreaming(requestContext, result, json);
                 }
             }
+        } else if (requestContextResult instanceof Stream<?> || requestContextResult instanceof Iterable<?>) {
+            handleIterable(requestContext, requestContextResult);
+        }
+    }
+
+    private void handleIterable(ResteasyReactiveRequestContext requestContext, Object result) {
+        ServerMediaType produces = requestContext.getTarget().getProduces();
+        if (produces == null || produces.getSortedOriginalMediaTypes().length != 1) {
+            // let the message body writers handle it
+            return;
+        }
+        MediaType mediaType = produces.getSortedOriginalMediaTypes()[0];
+        if (!mediaType.toString().contains(JSON)) {
+            return;
+        }
+        requestContext.setResponseContentType(mediaType);
+        // the elements are serialized one by one
+        requestContext.setGenericReturnType(elementType(requestContext.getTarget().getReturnType()));
+
+        Iterator<?> iterator;
+        AutoCloseable resource;
+        if (result instanceof Stream<?> stream) {
+            iterator = stream.iterator();
+            resource = stream;
+        } else {
+            iterator = ((Iterable<?>) result).iterator();
+            resource = null;
+        }
+        requestContext.suspend();
+        new StreamingIterableWriter(requestContext, streamingResponseCustomizers, iterator, resource,
+                !requiresChunkedStream(mediaType)).start();
+    }
+
+    private static Type elementType(Type returnType) {
+        if (returnType instanceof ParameterizedType parameterizedType) {
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (arguments.length == 1
+                    && (arguments[0] instanceof Class<?> || arguments[0] instanceof ParameterizedType)) {
+                return arguments[0];
+            }
         }
+        return Object.class;
     }
 
     private boolean requiresChunkedStream(MediaType mediaType) {
@@ -4,7 +4,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -15,11 +14,17 @@
 
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * Used to look up the stems on the request path, {@link #requestPaths} is kept for {@link #dump()} and introspection
+     */
+    private final StemTrie<ArrayList<RequestPath<T>>> stems;
+    private final ArrayList<RequestPath<T>> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
+        StemTrie.Builder<ArrayList<RequestPath<T>>> stemsBuilder = new StemTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -36,10 +41,15 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
                 pathMatcherBuilder.addPrefixPath(stem, list);
+                if (!"/".equals(stem)) {
+                    stemsBuilder.add(stem, list);
+                }
             }
         });
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        stems = stemsBuilder.build();
+        defaultPaths = aggregates.get("/");
     }
 
     /**
@@ -49,16 +59,17 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
+        int node = stems.longestMatch(path, Integer.MAX_VALUE);
+        while (node >= 0) {
+            var result = mapFromCandidates(path, stems.value(node), stems.length(node), 0);
             if (result != null) {
                 return result;
             }
+            node = stems.longestMatch(path, stems.length(node));
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromCandidates(path, defaultPaths, 1, 0);
     }
 
     /**
@@ -72,38 +83,39 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+        int node = stems.longestMatch(path, Integer.MAX_VALUE);
+        while (node >= 0) {
+            ArrayList<RequestPath<T>> candidates = stems.value(node);
+            int matchedLength = stems.length(node);
+            var result = mapFromCandidates(path, candidates, matchedLength, 0);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
+                int idx = nextMatchStartingIndex(candidates, lastMatch);
+                RequestMatch<T> match = mapFromCandidates(path, candidates, matchedLength, idx);
                 if (match != null) {
                     return match;
                 }
             }
+            node = stems.longestMatch(path, matchedLength);
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+        var result = mapFromCandidates(path, defaultPaths, 1, 0);
         if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            int idx = nextMatchStartingIndex(defaultPaths, lastMatch);
+            return mapFromCandidates(path, defaultPaths, 1, idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(ArrayList<RequestPath<T>> candidates, RequestMatch<T> current) {
+        if (candidates == null || candidates.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidates.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < candidates.size()) {
                     return i;
                 }
                 return -1;
@@ -114,20 +126,23 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromCandidates(String path, ArrayList<RequestPath<T>> value, int matchedLength,
             int startIdx) {
-        var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        // the same array is reused for every candidate, it is only handed out with the final match
+        String[] params = null;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = matchedLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -177,7 +192,8 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 continue;
             }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                // clear anything left over from a previous candidate that did not match
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
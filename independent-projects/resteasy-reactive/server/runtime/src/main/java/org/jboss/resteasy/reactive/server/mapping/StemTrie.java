@@ -0,0 +1,179 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A character trie of the template stems, compiled into flat arrays when the {@link RequestMapper} is created.
+ * <p>
+ * {@link PathMatcher} finds the stems that prefix a path by hashing the path once per distinct stem length, which
+ * means the cost of a lookup grows with the number of different stem lengths in the application. This trie finds
+ * every stem that prefixes the path with a single walk over the path characters, and does not allocate.
+ * <p>
+ * Nodes are stored in breadth first order, the edges of a node are sorted by character so they can be binary
+ * searched when a node has a lot of children.
+ */
+final class StemTrie<T> {
+
+    /**
+     * Nodes with more edges than this are binary searched rather than scanned
+     */
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    /**
+     * The index of the first edge of every node in {@link #edgeChars}
+     */
+    private final int[] edgeStart;
+    /**
+     * The number of edges of every node
+     */
+    private final int[] edgeCount;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    /**
+     * The depth of every node, which is the length of the stem it represents
+     */
+    private final int[] depth;
+    /**
+     * The value of every node, or null if no stem ends at this node
+     */
+    private final T[] values;
+
+    private StemTrie(int[] edgeStart, int[] edgeCount, char[] edgeChars, int[] edgeTargets, int[] depth, T[] values) {
+        this.edgeStart = edgeStart;
+        this.edgeCount = edgeCount;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.depth = depth;
+        this.values = values;
+    }
+
+    /**
+     * Finds the longest stem that is a prefix of the given path and is shorter than {@code maxLength}.
+     * <p>
+     * Calling this repeatedly with the length of the previous result iterates over all the matching stems, longest
+     * first, which is the same order {@link PathMatcher#match(String)} returns them in.
+     *
+     * @param path the path
+     * @param maxLength the exclusive upper bound of the stem length
+     * @return the node of the matching stem, or -1 if there is none
+     */
+    int longestMatch(String path, int maxLength) {
+        int limit = Math.min(path.length(), maxLength - 1);
+        int node = 0;
+        int result = -1;
+        for (int pos = 0; pos < limit; ++pos) {
+            node = child(node, path.charAt(pos));
+            if (node < 0) {
+                break;
+            }
+            if (values[node] != null) {
+                result = node;
+            }
+        }
+        return result;
+    }
+
+    int length(int node) {
+        return depth[node];
+    }
+
+    T value(int node) {
+        return values[node];
+    }
+
+    private int child(int node, char c) {
+        int start = edgeStart[node];
+        int count = edgeCount[node];
+        final char[] edgeChars = this.edgeChars;
+        if (count <= LINEAR_SCAN_THRESHOLD) {
+            for (int i = start; i < start + count; ++i) {
+                if (edgeChars[i] == c) {
+                    return edgeTargets[i];
+                }
+            }
+            return -1;
+        }
+        int low = start;
+        int high = start + count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    static class Builder<T> {
+
+        private final Node<T> root = new Node<>(0);
+
+        /**
+         * Adds a stem. The root stem {@code /} is not added, it is handled as the default match.
+         */
+        void add(String stem, T value) {
+            Node<T> current = root;
+            for (int i = 0; i < stem.length(); ++i) {
+                char c = stem.charAt(i);
+                Node<T> next = current.children.get(c);
+                if (next == null) {
+                    current.children.put(c, next = new Node<>(i + 1));
+                }
+                current = next;
+            }
+            current.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        StemTrie<T> build() {
+            List<Node<T>> nodes = new ArrayList<>();
+            nodes.add(root);
+            int edges = 0;
+            for (int i = 0; i < nodes.size(); ++i) {
+                Node<T> node = nodes.get(i);
+                nodes.addAll(node.children.values());
+                edges += node.children.size();
+            }
+            int[] edgeStart = new int[nodes.size()];
+            int[] edgeCount = new int[nodes.size()];
+            char[] edgeChars = new char[edges];
+            int[] edgeTargets = new int[edges];
+            int[] depth = new int[nodes.size()];
+            T[] values = (T[]) new Object[nodes.size()];
+            // children were appended in breadth first order, so the index of the first child of each node is known
+            int nextNode = 1;
+            int edge = 0;
+            for (int i = 0; i < nodes.size(); ++i) {
+                Node<T> node = nodes.get(i);
+                edgeStart[i] = edge;
+                edgeCount[i] = node.children.size();
+                depth[i] = node.depth;
+                values[i] = node.value;
+                for (Character c : node.children.keySet()) {
+                    edgeChars[edge] = c;
+                    edgeTargets[edge] = nextNode++;
+                    edge++;
+                }
+            }
+            return new StemTrie<>(edgeStart, edgeCount, edgeChars, edgeTargets, depth, values);
+        }
+
+        private static final class Node<T> {
+            final int depth;
+            final Map<Character, Node<T>> children = new TreeMap<>();
+            T value;
+
+            Node(int depth) {
+                this.depth = depth;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void nestedStems() {
+        RequestMapper<String> mapper = mapper(false, "/api", "/api/users", "/api/users/{id}", "/api/users/{id}/orders",
+                "/api/orders/{id}", "/apis/{name}");
+
+        assertEquals("/api", mapper.map("/api").value);
+        assertEquals("/api/users", mapper.map("/api/users").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/api/users/42");
+        assertEquals("/api/users/{id}", result.value);
+        assertEquals("42", result.pathParamValues[0]);
+        result = mapper.map("/api/users/42/orders");
+        assertEquals("/api/users/{id}/orders", result.value);
+        assertEquals("42", result.pathParamValues[0]);
+        result = mapper.map("/api/orders/7");
+        assertEquals("/api/orders/{id}", result.value);
+        assertEquals("7", result.pathParamValues[0]);
+        result = mapper.map("/apis/foo");
+        assertEquals("/apis/{name}", result.value);
+        assertEquals("foo", result.pathParamValues[0]);
+        assertNull(mapper.map("/ap"));
+        assertNull(mapper.map("/api/other"));
+        assertNull(mapper.map("/apix"));
+    }
+
+    @Test
+    public void fallsBackToShorterStem() {
+        // "/foo/bar" matches the stem of the first template, but only the second template matches the path
+        RequestMapper<String> mapper = mapper(false, "/foo/bar/{a}/{b}", "/foo/{x}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/foo/bar");
+        assertEquals("/foo/{x}", result.value);
+        assertEquals("bar", result.pathParamValues[0]);
+        assertNull(result.pathParamValues[1]);
+    }
+
+    @Test
+    public void paramsOfRejectedCandidatesAreCleared() {
+        RequestMapper<String> mapper = mapper(false, "/p/{a}/{b}/x", "/p/{a}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/p/1");
+        assertEquals("/p/{a}", result.value);
+        assertEquals("1", result.pathParamValues[0]);
+        assertNull(result.pathParamValues[1]);
+    }
+
+    @Test
+    public void rootTemplate() {
+        RequestMapper<String> mapper = mapper(true, "/", "/hello");
+
+        assertEquals("/hello", mapper.map("/hello").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/other");
+        assertNotNull(result);
+        assertEquals("/", result.value);
+        assertEquals("/other", result.remaining);
+    }
+
+    private static RequestMapper<String> mapper(boolean prefixTemplates, String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (String i : templates) {
+            list.add(new RequestMapper.RequestPath<>(prefixTemplates, new URITemplate(i, false), i));
+        }
+        return new RequestMapper<>(list);
+    }
+}
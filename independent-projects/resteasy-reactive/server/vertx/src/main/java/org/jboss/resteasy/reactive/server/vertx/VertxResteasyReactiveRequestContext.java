@@ -1,6 +1,5 @@
 package org.jboss.resteasy.reactive.server.vertx;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -23,6 +22,7 @@
 
 import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.util.ByteArrayBodyInputStream;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.LazyResponse;
@@ -298,7 +298,7 @@ public InputStream createInputStream() {
         if (context.body().buffer() != null) {
             byte[] data = new byte[context.body().length()];
             context.body().buffer().getBytes(data);
-            return new ByteArrayInputStream(data);
+            return new ByteArrayBodyInputStream(data);
         }
         return new VertxInputStream(context, getDeployment().getRuntimeConfiguration().readTimeout().toMillis(), this);
     }